@@ -0,0 +1,32 @@
+package anon.data_structures.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar. It accepts the usual JMH command line and always adds the GC profiler, so that every
+ result comes with its allocation rate(gc.alloc.rate.norm is the number of bytes allocated per operation).
+ *
+ * Example: java -jar benchmarks/target/benchmarks.jar ListBenchmark.get -p size=10000 -p elementType=Integer
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public class BenchmarkRunner
+{
+    /**
+     * @param args  JMH command line arguments.
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException{
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
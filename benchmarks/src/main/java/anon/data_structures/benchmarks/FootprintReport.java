@@ -0,0 +1,116 @@
+package anon.data_structures.benchmarks;
+
+import anon.data_structures.BidirectionalLinkedList;
+import anon.data_structures.IndexedBidirectionalLinkedList;
+import anon.data_structures.UnidirectionalLinkedList;
+import anon.data_structures.UnrolledLinkedList;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.Set;
+import java.util.TreeSet;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+import org.openjdk.jol.vm.VirtualMachine;
+
+/**
+ * Measures with JOL how many bytes every element of a list costs, besides the entry itself, and prints it next to the
+ budget of the element classes of BidirectionalLinkedList and UnidirectionalLinkedList: one object holding only the
+ entry and the links on the running VM(24 bytes with compressed references), with no index and no reference to the list.
+ *
+ * The other lists are only reported for comparison. FootprintTest holds the lists to their budget during mvn test; the
+ report can be printed with: java -cp benchmarks/target/benchmarks.jar anon.data_structures.benchmarks.FootprintReport
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public class FootprintReport
+{
+    // class variables
+    static final int SIZE = 100_000;                                        // elements per measured list
+    static final Integer ENTRY = 42;                                        // the same entry everywhere, counted once
+    static final String BIDIRECTIONAL_ELEMENT = "anon.data_structures.BidirectionalLinkedList$BidirectionalLinkedListElement";
+    static final String UNIDIRECTIONAL_ELEMENT = "anon.data_structures.UnidirectionalLinkedList$UnidirectionalLinkedListElement";
+    static final String[] BIDIRECTIONAL_FIELDS = {"element", "next", "prev"};   // the only fields the elements may have
+    static final String[] UNIDIRECTIONAL_FIELDS = {"cell1", "cell2"};
+
+    /**
+     * Prints the report.
+     * @param args  not used.
+     */
+    public static void main(String[] args){
+        System.out.println(VM.current().details());
+        System.out.printf("%-34s %14s %10s%n", "list", "bytes/element", "budget");
+
+        BidirectionalLinkedList<Integer> bidirectional = new BidirectionalLinkedList<Integer>();
+        UnidirectionalLinkedList<Integer> unidirectional = new UnidirectionalLinkedList<Integer>();
+        IndexedBidirectionalLinkedList<Integer> indexed = new IndexedBidirectionalLinkedList<Integer>();
+        UnrolledLinkedList<Integer> unrolled = new UnrolledLinkedList<Integer>();
+        LinkedList<Integer> linked = new LinkedList<Integer>();
+        ArrayList<Integer> array = new ArrayList<Integer>();
+        for(int i = 0; i < SIZE; i++){
+            bidirectional.add(ENTRY);
+            unidirectional.add(ENTRY);
+            indexed.add(ENTRY);
+            unrolled.add(ENTRY);
+            linked.add(ENTRY);
+            array.add(ENTRY);
+        }
+
+        report("BidirectionalLinkedList", bidirectional, String.valueOf(budget(BIDIRECTIONAL_FIELDS.length)));
+        report("UnidirectionalLinkedList", unidirectional, String.valueOf(budget(UNIDIRECTIONAL_FIELDS.length)));
+        report("IndexedBidirectionalLinkedList", indexed, "-");
+        report("UnrolledLinkedList", unrolled, "-");
+        report("java.util.LinkedList", linked, "-");
+        report("java.util.ArrayList", array, "-");
+    }
+
+    /**
+     * Prints the footprint of a list.
+     * @param name  the name printed in the report.
+     * @param list  the list, holding SIZE times ENTRY.
+     * @param budget  the budget printed next to it.
+     */
+    private static void report(String name, Object list, String budget){
+        System.out.printf("%-34s %14.2f %10s%n", name, perElement(list), budget);
+    }
+
+    /**
+     * @param c  a class.
+     * @return the names of the instance fields declared by c.
+     */
+    static Set<String> instanceFields(Class<?> c){
+        Set<String> ret = new TreeSet<String>();
+        for(Field f : c.getDeclaredFields()){
+            if(!Modifier.isStatic(f.getModifiers())) ret.add(f.getName());
+        }
+        return ret;
+    }
+
+    /**
+     * @param fields  a number of reference fields.
+     * @return the size of an object holding only those fields on the running VM.
+     */
+    static long budget(int fields){
+        VirtualMachine vm = VM.current();
+        return align(vm.objectHeaderSize() + fields*vm.sizeOfField("oop"), vm.objectAlignment());
+    }
+
+    /**
+     * @param list  a list holding SIZE times ENTRY.
+     * @return the bytes reachable from the list, without the entry, per element.
+     */
+    static double perElement(Object list){
+        return (GraphLayout.parseInstance(list).totalSize() - GraphLayout.parseInstance(ENTRY).totalSize())/(double)SIZE;
+    }
+
+    /**
+     * @param size  a size in bytes.
+     * @param alignment  the object alignment.
+     * @return size rounded up to the alignment.
+     */
+    private static long align(long size, int alignment){
+        return (size + alignment - 1)/alignment*alignment;
+    }
+}
@@ -0,0 +1,220 @@
+package anon.data_structures.benchmarks;
+
+import anon.data_structures.BidirectionalLinkedList;
+import anon.data_structures.IndexedBidirectionalLinkedList;
+import anon.data_structures.UnidirectionalLinkedList;
+import anon.data_structures.UnrolledLinkedList;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * A common face for the lists being compared, so that a single benchmark body can drive all of them.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+interface ListAdapter
+{
+    /**
+     * The names accepted by create(String), usable as the values of a JMH parameter.
+     */
+    String UNIDIRECTIONAL = "UnidirectionalLinkedList", BIDIRECTIONAL = "BidirectionalLinkedList",
+            INDEXED = "IndexedBidirectionalLinkedList", UNROLLED = "UnrolledLinkedList",
+            LINKED_LIST = "java.util.LinkedList", ARRAY_LIST = "java.util.ArrayList", ARRAY_DEQUE = "java.util.ArrayDeque";
+
+    /**
+     * @param o  appended at the end of the list.
+     */
+    void add(Object o);
+
+    /**
+     * @param index  a valid index.
+     * @return the entry at that index.
+     */
+    Object get(int index);
+
+    /**
+     * @param o  the entry to be inserted.
+     * @param index  a valid index, the new entry takes it.
+     */
+    void insert(Object o, int index);
+
+    /**
+     * @param index  the index of the entry to be removed.
+     */
+    void remove(int index);
+
+    /**
+     * Walks the whole list once with the cheapest sequential access the list offers.
+     * @param bh  consumes every entry.
+     */
+    void traverse(Blackhole bh);
+
+    /**
+     * @return the String representation of the list.
+     */
+    String render();
+
+    /**
+     * @param implementation  one of the names declared above.
+     * @return an empty list of that implementation.
+     */
+    static ListAdapter create(String implementation){
+        switch(implementation){
+            case UNIDIRECTIONAL: return new Unidirectional();
+            case BIDIRECTIONAL: return new Bidirectional();
+            case INDEXED: return new Indexed();
+            case UNROLLED: return new Unrolled();
+            case LINKED_LIST: return new JavaList(new LinkedList<Object>());
+            case ARRAY_LIST: return new JavaList(new ArrayList<Object>());
+            case ARRAY_DEQUE: return new Deque();
+            default: throw new IllegalArgumentException("unknown implementation " + implementation);
+        }
+    }
+
+    /**
+     * Adapts UnidirectionalLinkedList, traversed with a cursor.
+     */
+    final class Unidirectional implements ListAdapter
+    {
+        private final UnidirectionalLinkedList<Object> list = new UnidirectionalLinkedList<Object>();
+
+        public void add(Object o){ list.add(o); }
+        public Object get(int index){ return list.getElement(index); }
+        public void insert(Object o, int index){ list.add(o, index); }
+        public void remove(int index){ list.remove(index); }
+        public String render(){ return list.toString(); }
+
+        public void traverse(Blackhole bh){
+            UnidirectionalLinkedList<Object>.Cursor c = list.cursor();
+            for(int i = list.size(); i > 0; i--){
+                bh.consume(c.get());
+                c.next();
+            }
+        }
+    }
+
+    /**
+     * Adapts BidirectionalLinkedList, traversed with a cursor.
+     */
+    final class Bidirectional implements ListAdapter
+    {
+        private final BidirectionalLinkedList<Object> list = new BidirectionalLinkedList<Object>();
+
+        public void add(Object o){ list.add(o); }
+        public Object get(int index){ return list.getElement(index); }
+        public void insert(Object o, int index){ list.add(o, index); }
+        public void remove(int index){ list.remove(index); }
+        public String render(){ return list.toString(); }
+
+        public void traverse(Blackhole bh){
+            BidirectionalLinkedList<Object>.Cursor c = list.cursor();
+            for(int i = list.size(); i > 0; i--){
+                bh.consume(c.get());
+                c.next();
+            }
+        }
+    }
+
+    /**
+     * Adapts IndexedBidirectionalLinkedList, traversed with its pointer.
+     */
+    final class Indexed implements ListAdapter
+    {
+        private final IndexedBidirectionalLinkedList<Object> list = new IndexedBidirectionalLinkedList<Object>();
+
+        public void add(Object o){ list.add(o); }
+        public Object get(int index){ return list.getElement(index); }
+        public void insert(Object o, int index){ list.add(o, index); }
+        public void remove(int index){ list.remove(index); }
+        public String render(){ return list.toString(); }
+
+        public void traverse(Blackhole bh){
+            for(int i = list.size(); i > 0; i--){
+                bh.consume(list.next());
+            }
+        }
+    }
+
+    /**
+     * Adapts UnrolledLinkedList, traversed with its pointer.
+     */
+    final class Unrolled implements ListAdapter
+    {
+        private final UnrolledLinkedList<Object> list = new UnrolledLinkedList<Object>();
+
+        public void add(Object o){ list.add(o); }
+        public Object get(int index){ return list.getElement(index); }
+        public void insert(Object o, int index){ list.add(o, index); }
+        public void remove(int index){ list.remove(index); }
+        public String render(){ return list.toString(); }
+
+        public void traverse(Blackhole bh){
+            for(int i = list.size(); i > 0; i--){
+                bh.consume(list.next());
+            }
+        }
+    }
+
+    /**
+     * Adapts the java.util.List implementations.
+     */
+    final class JavaList implements ListAdapter
+    {
+        private final java.util.List<Object> list;
+
+        private JavaList(java.util.List<Object> list){ this.list = list; }
+
+        public void add(Object o){ list.add(o); }
+        public Object get(int index){ return list.get(index); }
+        public void insert(Object o, int index){ list.add(index, o); }
+        public void remove(int index){ list.remove(index); }
+        public String render(){ return list.toString(); }
+
+        public void traverse(Blackhole bh){
+            for(Object o : list){
+                bh.consume(o);
+            }
+        }
+    }
+
+    /**
+     * Adapts ArrayDeque, which has no positional access: get(int) walks an iterator, insert(Object, int) and
+     remove(int) work at the end of the deque that is closer to the index.
+     */
+    final class Deque implements ListAdapter
+    {
+        private final ArrayDeque<Object> deque = new ArrayDeque<Object>();
+
+        public void add(Object o){ deque.addLast(o); }
+        public String render(){ return deque.toString(); }
+
+        public Object get(int index){
+            Iterator<Object> it = deque.iterator();
+            for(int i = 0; i < index; i++){
+                it.next();
+            }
+            return it.next();
+        }
+
+        public void insert(Object o, int index){
+            if(index < deque.size()/2) deque.addFirst(o);
+            else deque.addLast(o);
+        }
+
+        public void remove(int index){
+            if(index < deque.size()/2) deque.pollFirst();
+            else deque.pollLast();
+        }
+
+        public void traverse(Blackhole bh){
+            for(Object o : deque){
+                bh.consume(o);
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package anon.data_structures.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the basic operations of every list implementation against the java.util collections.
+ *
+ * The parameters are the implementation, the size of the list(1e2 to 1e7), the type of the entries and, for mixed(),
+ the share of reads among the operations. Run with "-prof gc"(the default of BenchmarkRunner) to get the allocation
+ rate next to the timings. Positional operations on the plain linked lists are linear, so the largest sizes take a while.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListBenchmark
+{
+    // number of precomputed random indices, a power of two
+    private static final int INDICES = 1024;
+
+    @Param({ListAdapter.UNIDIRECTIONAL, ListAdapter.BIDIRECTIONAL, ListAdapter.INDEXED, ListAdapter.UNROLLED,
+            ListAdapter.LINKED_LIST, ListAdapter.ARRAY_LIST, ListAdapter.ARRAY_DEQUE})
+    public String implementation;
+
+    @Param({"100", "10000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"Integer", "String"})
+    public String elementType;
+
+    private ListAdapter list;
+    private Object[] values;            // entries used for insertions
+    private int[] indices;              // random valid indices
+    private int next;                   // position in values and indices
+
+    /**
+     * Builds the list once per trial.
+     */
+    @Setup(Level.Trial)
+    public void setUp(){
+        Random random = new Random(42);
+        list = ListAdapter.create(implementation);
+        for(int i = 0; i < size; i++){
+            list.add(entry(i));
+        }
+        values = new Object[INDICES];
+        indices = new int[INDICES];
+        for(int i = 0; i < INDICES; i++){
+            values[i] = entry(random.nextInt());
+            indices[i] = random.nextInt(size);
+        }
+    }
+
+    /**
+     * Reads the entry at a random index.
+     */
+    @Benchmark
+    public Object get(){
+        return list.get(nextIndex());
+    }
+
+    /**
+     * Inserts an entry at a random index and removes one at another random index, so the size stays the same.
+     */
+    @Benchmark
+    public void insertRemove(){
+        list.insert(values[next], nextIndex());
+        list.remove(nextIndex());
+    }
+
+    /**
+     * Walks the whole list with cursors or iterators.
+     */
+    @Benchmark
+    public void traverse(Blackhole bh){
+        list.traverse(bh);
+    }
+
+    /**
+     * Renders the whole list as a String.
+     */
+    @Benchmark
+    public String render(){
+        return list.render();
+    }
+
+    /**
+     * Runs a get() with probability readPercent, an insertRemove() otherwise.
+     */
+    @Benchmark
+    public Object mixed(Mix mix){
+        if(mix.nextIsRead()) return get();
+        insertRemove();
+        return null;
+    }
+
+    /**
+     * @return the next precomputed random index.
+     */
+    private int nextIndex(){
+        int index = indices[next];
+        next = (next + 1) & (INDICES - 1);
+        return index;
+    }
+
+    /**
+     * @param i  a number.
+     * @return an entry of elementType made from i.
+     */
+    private Object entry(int i){
+        return "String".equals(elementType)? ("e" + i) : (Object)i;
+    }
+
+    /**
+     * The operation mix of mixed(), a state of its own so that readPercent only multiplies the runs of mixed() and not
+     those of the other benchmarks.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    @State(Scope.Thread)
+    public static class Mix
+    {
+        @Param({"10", "50", "90"})
+        public int readPercent;
+
+        private boolean[] reads;        // true for a get(), false for an insertRemove()
+        private int next;               // position in reads
+
+        /**
+         * Draws the operations once per trial.
+         */
+        @Setup(Level.Trial)
+        public void setUp(){
+            Random random = new Random(43);
+            reads = new boolean[INDICES];
+            for(int i = 0; i < INDICES; i++){
+                reads[i] = random.nextInt(100) < readPercent;
+            }
+        }
+
+        /**
+         * @return true if the next operation is a read.
+         */
+        private boolean nextIsRead(){
+            boolean read = reads[next];
+            next = (next + 1) & (INDICES - 1);
+            return read;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package anon.data_structures.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import anon.data_structures.BidirectionalLinkedList;
+import anon.data_structures.UnidirectionalLinkedList;
+import java.util.Arrays;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
+
+/**
+ * Fails the build when an element of BidirectionalLinkedList or UnidirectionalLinkedList grows: its instance fields
+ must be exactly the entry and the links, and a list must cost no more per element than one object holding those fields
+ on the running VM, plus a share of the list object itself. FootprintReport prints the same measures for every list.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+class FootprintTest
+{
+    // class variables
+    private static final double TOLERANCE = 0.01;                           // bytes per element left for the list object
+
+    @Test
+    void bidirectionalElementsHoldOnlyTheEntryAndTheLinks() throws ClassNotFoundException{
+        BidirectionalLinkedList<Integer> list = new BidirectionalLinkedList<Integer>();
+        for(int i = 0; i < FootprintReport.SIZE; i++) list.add(FootprintReport.ENTRY);
+        assertFootprint(list, FootprintReport.BIDIRECTIONAL_ELEMENT, FootprintReport.BIDIRECTIONAL_FIELDS);
+    }
+
+    @Test
+    void unidirectionalElementsHoldOnlyTheEntryAndTheLink() throws ClassNotFoundException{
+        UnidirectionalLinkedList<Integer> list = new UnidirectionalLinkedList<Integer>();
+        for(int i = 0; i < FootprintReport.SIZE; i++) list.add(FootprintReport.ENTRY);
+        assertFootprint(list, FootprintReport.UNIDIRECTIONAL_ELEMENT, FootprintReport.UNIDIRECTIONAL_FIELDS);
+    }
+
+    /**
+     * @param list  the list, holding FootprintReport.SIZE times FootprintReport.ENTRY.
+     * @param elementClass  the binary name of its element class.
+     * @param fields  the only instance fields the element class may have.
+     */
+    private static void assertFootprint(Object list, String elementClass, String... fields) throws ClassNotFoundException{
+        Class<?> c = Class.forName(elementClass);
+        assertEquals(new TreeSet<String>(Arrays.asList(fields)), FootprintReport.instanceFields(c), "element fields");
+
+        long budget = FootprintReport.budget(fields.length);
+        long instance = ClassLayout.parseClass(c).instanceSize();
+        assertTrue(instance <= budget, "an element takes " + instance + " bytes, expected " + budget);
+        double perElement = FootprintReport.perElement(list);
+        assertTrue(perElement <= budget + TOLERANCE, perElement + " bytes per element, expected at most " + budget);
+    }
+}
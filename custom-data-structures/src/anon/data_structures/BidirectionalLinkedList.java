@@ -1,5 +1,31 @@
 package anon.data_structures;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This class defines the Linked-List data-struceture that supports bi-directional, cyclic flow of control.
@@ -20,11 +46,22 @@ package anon.data_structures;
  * @author saurabh000345
  * @since 1.0.1
  */
-public class BidirectionalLinkedList<E>
+public class BidirectionalLinkedList<E> implements Iterable<E>, Serializable
 {
+    // class variables
+    private static final long serialVersionUID = 1L;                // the serialized form is written by writeObject
+    private static final int PARALLEL_SORT_SEGMENT = 1 << 14;       // chains this short are sorted by a single task
+    private static final int MAX_PRESIZE = 1 << 20;                 // toString() never presizes beyond this many chars
+    private static final ListStatistics STATISTICS = ListStatistics.register("BidirectionalLinkedList");    // null unless ListStatistics.ENABLED
+
     // instance variables
-    private BidirectionalLinkedListElement<E> top, tail, pointing;      // first, last and currently pointing
-    private int length = 0;                                             // size of the list
+    private transient BidirectionalLinkedListElement<E> top, tail, pointing;    // first, last and currently pointing
+    private transient int length = 0;                                           // size of the list
+    private transient int modCount = 0;                                         // structural modifications, checked by the cursors
+    private transient BidirectionalLinkedListElement<E> pool;                   // removed elements kept for reuse, chained through next
+    private transient int pooled = 0;                                           // number of elements in the pool
+    private int poolCapacity = 0;                                               // most elements the pool may hold, 0 disables recycling
+    private boolean compactSerialization = false;                               // entries serialized in the compact form
 
     /**
      *          cell1            cell2             cell3
@@ -36,17 +73,17 @@ public class BidirectionalLinkedList<E>
      |__________________|_____________|____________________|
      *
      * element stores the entry of type E
-     * Each instance stores an index value stored in the variable <index> and indexing begins from 0.
+     * The class is static and holds no index: an element is just its entry and its two references, positions are
+     found by walking the list.
      *
      * @author saurabh000345
      * @since 1.0.1
      */
-    private class BidirectionalLinkedListElement<E>
+    static class BidirectionalLinkedListElement<E>
     {
         // instance variables
         private E element;                                          // stores the entry
         private BidirectionalLinkedListElement<E> next, prev;       // references to the next and previous elements
-        private int index = 0;                                      // index value of the instance
 
         /**
          * Parameterized constructor to hold the element o of type E.
@@ -59,28 +96,16 @@ public class BidirectionalLinkedList<E>
         }
 
         /**
-         * Creates an element while assigning an index value to the element.
-         * @param o The element to be stored
-         * @param index The index value of the new object
-         */
-        private BidirectionalLinkedListElement(E o, int index){
-            this(o);
-            this.index = index;
-        }
-
-        /**
-         * This method creates a new BidirectionalLinkedListElement and adds its reference to the current Element. It
-         manages all configuration like maintaining the cyclic linking by correctly assigning the next reference of the
-         newly created Element as that of the first element in the list(the last element will redirect to the first).
-         * @param o  the element to be added
+         * This method adds the reference of a new BidirectionalLinkedListElement to the current Element. It manages all
+         configuration like maintaining the cyclic linking by correctly assigning the next reference of the new Element
+         as that of the first element in the list(the last element will redirect to the first).
+         * @param element  the element to be added
          */
-        private void addElement(E o){
-            BidirectionalLinkedListElement<E> element = new BidirectionalLinkedListElement<E>(o);
+        private void addElement(BidirectionalLinkedListElement<E> element){
             element.setPrev(this);
             element.setNext(this.next);
             next = element;
             element.next().setPrev(element);
-            element.setIndex(index + 1);
         }
 
         /**
@@ -107,21 +132,6 @@ public class BidirectionalLinkedList<E>
             element = o;
         }
 
-        /**
-         * This method updates the index value of the current element.
-         * @param index  the new index value.
-         */
-        private void setIndex(int index){
-            this.index = index;
-        }
-
-        /**
-         * @return the index value of the invoking element.
-         */
-        private int getIndex(){
-            return index;
-        }
-
         /**
          * @return the reference(AND NOT THE CLONE!!) of the entry stored in the invoking element.
          */
@@ -168,9 +178,17 @@ public class BidirectionalLinkedList<E>
      * @param o The element to be contained in the list.
      */
     public BidirectionalLinkedList(E o){
-        top = new BidirectionalLinkedListElement<E>(o);         // its the first element in this brand-new list!
+        top = newElement(o);                                    // its the first element in this brand-new list!
         pointing = top;                                         // the pointer will be pointing to it
         tail = top;                                             // its the first and also the last element for now
+        length++;                                               // updating the size of the list.
+    }
+
+    /**
+     * @return the number of elements in the list.
+     */
+    public int size(){
+        return length;
     }
 
     /**
@@ -178,7 +196,10 @@ public class BidirectionalLinkedList<E>
      * @return the entry contained at the element at the specified index.
      */
     public E getElement(int index) throws ListIndexOutOfBoundsException{
-        return  get(index).getRefEntry();
+        long start = ListStatistics.ENABLED ? System.nanoTime() : 0L;
+        E o = get(index).getRefEntry();
+        if(ListStatistics.ENABLED) STATISTICS.record(ListStatistics.Operation.GET, start, walked(index, length), length);
+        return o;
     }
 
     /**
@@ -189,13 +210,199 @@ public class BidirectionalLinkedList<E>
      * If you want to get the entry E at the specifiedIndex, use getElement(int) method instead.
      */
     public BidirectionalLinkedListElement<E> get(int index) throws ListIndexOutOfBoundsException{
-        if(index >= length) throw new ListIndexOutOfBoundsException();          // Invalid index
+        if(index >= length || index < -length) throw new ListIndexOutOfBoundsException();  // Invalid index
         index = (index + length)%length;                                        // Thus, entertains negative values
-        BidirectionalLinkedListElement<E> pointing = top;                       // new varibale
-        for(int i = 0; i < index; i++){                                         // reaching the specified indexx
-            pointing = pointing.next();
+        return element(index);
+    }
+
+    /**
+     * Finds the element at the given index, walking from whichever end of the list is closer.
+     * @param index  the index of the element, between 0 and size() - 1.
+     * @return the element at that index.
+     */
+    private BidirectionalLinkedListElement<E> element(int index){
+        BidirectionalLinkedListElement<E> e;
+        if(index <= length/2){
+            e = top;
+            for(int i = 0; i < index; i++) e = e.next();
+        } else{
+            e = tail;
+            for(int i = length - 1; i > index; i--) e = e.prev();
         }
-        return pointing;
+        return e;
+    }
+
+    /**
+     * @param index  an index accepted by get(int), negative values are counted from the end of the list.
+     * @param size  the size of the list when it was walked.
+     * @return the number of elements get(int) walks over to reach the element at index.
+     */
+    private static int walked(int index, int size){
+        index = (index + size)%size;
+        return index <= size/2 ? index : size - 1 - index;
+    }
+
+    /**
+     * Creates an element holding o, taking it from the pool when there is one available.
+     * @param o  the entry to be stored.
+     * @return an element linked to itself only.
+     */
+    private BidirectionalLinkedListElement<E> newElement(E o){
+        if(pool == null){
+            if(ListStatistics.ENABLED) STATISTICS.allocated();
+            return new BidirectionalLinkedListElement<E>(o);
+        }
+        if(ListStatistics.ENABLED) STATISTICS.recycled();
+        BidirectionalLinkedListElement<E> e = pool;
+        pool = e.next();
+        pooled--;
+        e.setEntry(o);
+        e.setNext(e);
+        e.setPrev(e);
+        return e;
+    }
+
+    /**
+     * Hands an unlinked element back to the pool, unless the pool is full.
+     * @param e  the element, which must not be reachable from the list any more.
+     */
+    private void recycle(BidirectionalLinkedListElement<E> e){
+        recycle(e, 1);
+    }
+
+    /**
+     * Hands a run of unlinked elements back to the pool, as many as it still has room for.
+     * @param first  the first element of the run, which must not be reachable from the list any more.
+     * @param count  the number of elements in the run.
+     */
+    private void recycle(BidirectionalLinkedListElement<E> first, int count){
+        for(BidirectionalLinkedListElement<E> e = first; count > 0 && pooled < poolCapacity; count--){
+            BidirectionalLinkedListElement<E> next = e.next();
+            e.setEntry(null);                   // the entry must not be kept alive by the pool
+            e.setPrev(null);
+            e.setNext(pool);
+            pool = e;
+            pooled++;
+            e = next;
+        }
+    }
+
+    /**
+     * Forgets every element without recycling them, as they now belong to another list.
+     */
+    private void detach(){
+        top = null;
+        tail = null;
+        pointing = null;
+        length = 0;
+        modCount++;
+    }
+
+    /**
+     * Sorts a chain ending with null with a bottom-up merge sort that works like a binary counter: the elements are
+     taken one by one from the front of the chain, and bins[i] holds either nothing or a sorted run of 2^i elements.
+     A new element carries into the bins the way 1 is added to a binary number, merging equal sized runs as it goes.
+     Merging this way, depth first, handles every small run while its elements are still in the cache, where
+     merging the whole chain level by level walks all of it once per level. 32 bins are enough for any int length.
+     * @param list  the first element of the chain.
+     * @param c  the comparator.
+     * @return the first element of the sorted chain, which ends with null too.
+     */
+    @SuppressWarnings("unchecked")
+    private BidirectionalLinkedListElement<E> mergeSort(BidirectionalLinkedListElement<E> list, Comparator<? super E> c){
+        Object[] bins = new Object[32];
+        int used = 0;                                           // bins at and above this one are empty
+        while(list != null){
+            BidirectionalLinkedListElement<E> run = list;
+            list = list.next();
+            run.setNext(null);
+            int i = 0;
+            for(; bins[i] != null; i++){                        // the bins hold earlier elements, they come first on ties
+                run = merge((BidirectionalLinkedListElement<E>)bins[i], run, c);
+                bins[i] = null;
+            }
+            bins[i] = run;
+            if(i >= used) used = i + 1;
+        }
+        BidirectionalLinkedListElement<E> ret = null;
+        for(int i = 0; i < used; i++){
+            if(bins[i] != null) ret = ret == null ? (BidirectionalLinkedListElement<E>)bins[i] : merge((BidirectionalLinkedListElement<E>)bins[i], ret, c);
+        }
+        return ret;
+    }
+
+    /**
+     * Merges two sorted chains ending with null.
+     * @param a  the first element of the first chain, whose elements come first on ties.
+     * @param b  the first element of the second chain.
+     * @param c  the comparator.
+     * @return the first element of the merged chain.
+     */
+    private BidirectionalLinkedListElement<E> merge(BidirectionalLinkedListElement<E> a, BidirectionalLinkedListElement<E> b,
+                                                    Comparator<? super E> c){
+        BidirectionalLinkedListElement<E> first = null, last = null;
+        while(a != null && b != null){
+            BidirectionalLinkedListElement<E> e;
+            if(c.compare(a.getRefEntry(), b.getRefEntry()) <= 0){
+                e = a;
+                a = a.next();
+            } else{
+                e = b;
+                b = b.next();
+            }
+            if(last == null) first = e;
+            else if(last.next() != e) last.setNext(e);                // elements taken in a row are linked already
+            last = e;
+        }
+        BidirectionalLinkedListElement<E> rest = a != null ? a : b;
+        if(last == null) return rest;
+        if(last.next() != rest) last.setNext(rest);
+        return first;
+    }
+
+    /**
+     * Turns a sorted chain ending with null back into the cycle: restores the prev references, top and tail.
+     * @param first  the first element of the chain.
+     */
+    private void relinkSorted(BidirectionalLinkedListElement<E> first){
+        BidirectionalLinkedListElement<E> e = first;
+        while(e.next() != null){
+            e.next().setPrev(e);
+            e = e.next();
+        }
+        top = first;
+        tail = e;
+        tail.setNext(top);
+        top.setPrev(tail);
+        modCount++;
+    }
+
+    /**
+     * Links a chain of elements, already linked to each other from first to last, right after the element before and
+     closes the cycle. This is the single step shared by all the bulk operations.
+     * @param before  the element that will precede the chain, null if the list is empty.
+     * @param first  the first element of the chain.
+     * @param last  the last element of the chain.
+     * @param count  the number of elements in the chain.
+     */
+    private void linkChain(BidirectionalLinkedListElement<E> before, BidirectionalLinkedListElement<E> first,
+                           BidirectionalLinkedListElement<E> last, int count){
+        if(length == 0){                        // the chain becomes the whole list
+            top = first;
+            tail = last;
+            pointing = first;
+            last.setNext(first);
+            first.setPrev(last);
+        } else{
+            BidirectionalLinkedListElement<E> after = before.next();
+            last.setNext(after);
+            after.setPrev(last);
+            before.setNext(first);
+            first.setPrev(before);
+            if(before == tail) tail = last;
+        }
+        length += count;
+        modCount++;
     }
 
     /**
@@ -204,14 +411,15 @@ public class BidirectionalLinkedList<E>
      */
     public void add(E o){
         if(length == 0){                        // if the list is empty, a different approach is needed
-            top = new BidirectionalLinkedListElement<E>(o);
+            top = newElement(o);
             pointing = top;
             tail = top;
         } else{
-            tail.addElement(o);
+            tail.addElement(newElement(o));
             tail = tail.next();
         }
         length++;                               // Updating the length.
+        modCount++;
     }
 
     /**
@@ -220,19 +428,13 @@ public class BidirectionalLinkedList<E>
      * @param o  entry to be contained in the new element
      */
     public void add(E o, int index) throws ListIndexOutOfBoundsException{
-        if(index >= length) throw new ListIndexOutOfBoundsException();          // invalid index
-        BidirectionalLinkedListElement<E> e = new BidirectionalLinkedListElement<E>(o, index);      // new element created with index
-        BidirectionalLinkedListElement<E> curr = get(index);                    // begining to update the indices
-        BidirectionalLinkedListElement<E> point = curr;
-        for(int i = index; i < length; i++){
-            point.setIndex(i + 1);
-            point = point.next();
-        }
-        get(index - 1).setNext(e);          // adding the element to the list
-        e.setPrev(get(index - 1));
-        e.setNext(curr);
-        curr.setPrev(e);
-        length++;                           // updating the size
+        long start = ListStatistics.ENABLED ? System.nanoTime() : 0L;
+        BidirectionalLinkedListElement<E> curr = get(index);                    // the element that will follow the new one
+        curr.prev().addElement(newElement(o));                                  // adding the element to the list
+        if(curr == top) top = curr.prev();                                      // added in front of the first element
+        length++;                                                               // updating the size
+        modCount++;
+        if(ListStatistics.ENABLED) STATISTICS.record(ListStatistics.Operation.INSERT, start, walked(index, length - 1), length);
     }
 
     /**
@@ -240,24 +442,309 @@ public class BidirectionalLinkedList<E>
      * @param index  the index of the element which has to be removed.
      */
     public void remove(int index) throws ListIndexOutOfBoundsException{
-        if(index >= length) throw new ListIndexOutOfBoundsException();              // Invalid index
-        get(index - 1).setNext(get(index).next());                                  // removing it from reference
-        get(index - 1).next().setPrev(get(index - 1));
-        for(int i = index + 1; i < length; i++){        // updating the index values
-            get(i).setIndex(i - 1);
-        }
-        length--;                       // updating size
-        System.gc();                    // requesting for garbage cleaner
+        long start = ListStatistics.ENABLED ? System.nanoTime() : 0L;
+        unlink(get(index));
+        if(ListStatistics.ENABLED) STATISTICS.record(ListStatistics.Operation.REMOVE, start, walked(index, length + 1), length);
     }
 
-
     /**
      * This method updates the entry in the element at index <index> and sets it to the passed argument.
      * @param o  the new entry
      * @param index  the index of the element to be updated
      */
     public void setEntry(E o, int index){
+        long start = ListStatistics.ENABLED ? System.nanoTime() : 0L;
         get(index).setEntry(o);
+        if(ListStatistics.ENABLED) STATISTICS.record(ListStatistics.Operation.SET, start, walked(index, length), length);
+    }
+
+    /**
+     * Adds the entries of the array at the end of the list, in their order.
+     * @param a  the entries to be added.
+     */
+    public void addAll(E[] a){
+        addAll(Arrays.asList(a));
+    }
+
+    /**
+     * Adds the entries of a Collection, or of any other Iterable such as another list, at the end of the list in the
+     order they are iterated. The new elements are linked to each other first and the whole chain is then hooked to the
+     tail at once.
+     * @param c  the entries to be added.
+     */
+    public void addAll(Iterable<? extends E> c){
+        BidirectionalLinkedListElement<E> first = null, last = null;
+        int count = 0;
+        for(E o : c){
+            BidirectionalLinkedListElement<E> e = newElement(o);
+            if(first == null){
+                first = e;
+            } else{
+                last.setNext(e);
+                e.setPrev(last);
+            }
+            last = e;
+            count++;
+        }
+        if(count > 0) linkChain(tail, first, last, count);
+    }
+
+    /**
+     * Moves every element of another list to the end of this one in O(1); the other list is left empty. Nothing is
+     copied, the two cycles are simply cut open and joined.
+     * @param list  the list whose elements are taken over.
+     */
+    public void concat(BidirectionalLinkedList<E> list){
+        if(list == this) throw new IllegalArgumentException("a list cannot be concatenated to itself");
+        if(list.length == 0) return;
+        linkChain(tail, list.top, list.tail, list.length);
+        list.detach();
+    }
+
+    /**
+     * Moves every element of another list right after the element the pointer is on, in O(1); the other list is left
+     empty. On an empty list this is the same as concat(list).
+     * @param list  the list whose elements are taken over.
+     */
+    public void spliceAfter(BidirectionalLinkedList<E> list){
+        if(list == this) throw new IllegalArgumentException("a list cannot be spliced into itself");
+        if(list.length == 0) return;
+        linkChain(pointing, list.top, list.tail, list.length);
+        list.detach();
+    }
+
+    /**
+     * Splits the list in two: the elements from index <index> onwards are moved to a new list, in O(1) once the element
+     at index <index> has been reached. The pointer of this list goes back to its first element.
+     * @param index  the index of the first element to be moved, between 0 and size().
+     * @return a new list holding the moved elements.
+     */
+    public BidirectionalLinkedList<E> splitAt(int index) throws ListIndexOutOfBoundsException{
+        if(index > length || index < 0) throw new ListIndexOutOfBoundsException();
+        BidirectionalLinkedList<E> ret = new BidirectionalLinkedList<E>();
+        if(index == length) return ret;
+        if(index == 0){
+            ret.linkChain(null, top, tail, length);
+            detach();
+            return ret;
+        }
+        BidirectionalLinkedListElement<E> first = element(index), last = tail;
+        tail = first.prev();                                    // closing the cycle of the elements that stay
+        tail.setNext(top);
+        top.setPrev(tail);
+        pointing = top;
+        ret.linkChain(null, first, last, length - index);
+        length = index;
+        modCount++;
+        return ret;
+    }
+
+    /**
+     * Removes the elements from index <from>, inclusive, to index <to>, exclusive. The run is cut out of the cycle at
+     once, after its two ends have been reached. The pointer goes back to the first element.
+     * @param from  the index of the first element to be removed.
+     * @param to  the index after the last element to be removed.
+     */
+    public void removeRange(int from, int to) throws ListIndexOutOfBoundsException{
+        if(from < 0 || to > length || from > to) throw new ListIndexOutOfBoundsException();
+        if(from == to) return;
+        if(to - from == length){                                // the list gets empty
+            clear();
+            return;
+        }
+        BidirectionalLinkedListElement<E> first = element(from), last = element(to - 1);
+        first.prev().setNext(last.next());                      // removing the run from reference
+        last.next().setPrev(first.prev());
+        if(first == top) top = last.next();
+        if(last == tail) tail = first.prev();
+        pointing = top;
+        length -= to - from;
+        modCount++;
+        recycle(first, to - from);
+    }
+
+    /**
+     * Removes every element of the list.
+     */
+    public void clear(){
+        if(length > 0) recycle(top, length);
+        detach();
+    }
+
+    /**
+     * Sorts the list in place with a bottom-up merge sort, in O(n log n) comparisons and O(1) extra memory: the elements
+     are relinked, never copied, and nothing is allocated per element. The sort is stable; the pointer stays on the
+     element it was on.
+     *
+     * If the comparator throws, the exception is passed on once every element has been linked back into the list, in
+     an unspecified order.
+     * @param c  the comparator, null to sort Comparable entries by their natural ordering.
+     */
+    public void sort(Comparator<? super E> c){
+        if(length < 2) return;
+        GuardedComparator<E> comparator = new GuardedComparator<E>(c);
+        tail.setNext(null);                                   // the merges work on a chain ending with null
+        relinkSorted(mergeSort(top, comparator));
+        comparator.rethrow();
+    }
+
+    /**
+     * Sorts the list like sort(Comparator), but cuts it into segments that are sorted in parallel on the common
+     fork-join pool and then merged pairwise. Short lists, or a pool without parallelism, are sorted by sort(Comparator).
+     * @param c  the comparator, null to sort Comparable entries by their natural ordering.
+     */
+    public void parallelSort(Comparator<? super E> c){
+        if(length < 2*PARALLEL_SORT_SEGMENT || ForkJoinPool.getCommonPoolParallelism() < 2){
+            sort(c);
+            return;
+        }
+        GuardedComparator<E> comparator = new GuardedComparator<E>(c);
+        tail.setNext(null);
+        relinkSorted(ForkJoinPool.commonPool().invoke(new BidirectionalLinkedListSorter(top, length, comparator)));
+        comparator.rethrow();
+    }
+
+    /**
+     * Turns recycling on or off. While the capacity is positive, the elements unlinked by remove(int), removeRange(int,
+     int), clear() and the cursors are kept, up to capacity of them, and handed out again by the methods adding
+     entries instead of allocating new ones. A list that keeps adding and removing entries then allocates nothing once
+     its pool has filled up. The pool is never shared with another list.
+     * @param capacity  the largest number of elements kept for reuse, 0 to drop the pool and stop recycling.
+     */
+    public void setPoolCapacity(int capacity){
+        if(capacity < 0) throw new IllegalArgumentException("capacity must not be negative");
+        poolCapacity = capacity;
+        while(pooled > capacity){               // handing the surplus to the garbage collector
+            pool = pool.next();
+            pooled--;
+        }
+        if(pooled == 0) pool = null;
+    }
+
+    /**
+     * @return the largest number of elements kept for reuse, 0 if recycling is off.
+     */
+    public int getPoolCapacity(){
+        return poolCapacity;
+    }
+
+    /**
+     * Chooses how the entries are serialized. By default every entry is written by ObjectOutputStream.writeObject(Object),
+     which costs a class descriptor and a handle per boxed number. In the compact form, the boxed primitives and Strings
+     are written as a tag byte followed by their raw bytes, e.g. 5 bytes per Integer, and other entries as before.
+     Either form is read back by any list, the choice is part of the serialized form and is kept by the copy.
+     * @param compact  true for the compact form, false for the default one.
+     */
+    public void setCompactSerialization(boolean compact){
+        compactSerialization = compact;
+    }
+
+    /**
+     * @return true if the entries are serialized in the compact form, see setCompactSerialization(boolean).
+     */
+    public boolean isCompactSerialization(){
+        return compactSerialization;
+    }
+
+    /**
+     * Adds an element in front of the first one and hands it out, so that classes of this package can keep it and
+     later move or remove it in O(1).
+     * @param o  the entry to be added.
+     * @return the new first element.
+     */
+    BidirectionalLinkedListElement<E> linkFirst(E o){
+        if(length == 0){
+            add(o);
+        } else{
+            tail.addElement(newElement(o));
+            top = tail.next();
+            length++;
+            modCount++;
+        }
+        return top;
+    }
+
+    /**
+     * Moves an element of this list in front of the first one.
+     * @param e  the element to be moved.
+     */
+    void moveToFront(BidirectionalLinkedListElement<E> e){
+        if(e == top) return;
+        if(e == tail){                          // the cycle only has to be turned by one element
+            tail = e.prev();
+        } else{
+            e.prev().setNext(e.next());
+            e.next().setPrev(e.prev());
+            tail.setNext(e);
+            e.setPrev(tail);
+            e.setNext(top);
+            top.setPrev(e);
+        }
+        top = e;
+        modCount++;
+    }
+
+    /**
+     * Removes an element of this list in O(1).
+     * @param e  the element to be removed.
+     */
+    void unlink(BidirectionalLinkedListElement<E> e){
+        if(length == 1){                        // the list gets empty
+            top = null;
+            tail = null;
+            pointing = null;
+        } else{
+            e.prev().setNext(e.next());
+            e.next().setPrev(e.prev());
+            if(e == top) top = e.next();
+            if(e == tail) tail = e.prev();
+            if(e == pointing) pointing = e.next();
+        }
+        length--;
+        modCount++;
+        recycle(e);
+    }
+
+    /**
+     * @return the entry of the last element, in O(1).
+     */
+    E lastEntry(){
+        if(length == 0) throw new NoSuchElementException();
+        return tail.getRefEntry();
+    }
+
+    /**
+     * Hands out the elements of this list, so that classes of this package can keep them and later remove one with
+     unlinkIfLinked(BidirectionalLinkedListElement, boolean).
+     * @param entries  filled with the entries of the elements, first to last; at least size() long.
+     * @return the elements, first to last.
+     */
+    Object[] elements(Object[] entries){
+        Object[] ret = new Object[length];
+        BidirectionalLinkedListElement<E> e = top;
+        for(int i = 0; i < length; i++, e = e.next()){
+            ret[i] = e;
+            entries[i] = e.getRefEntry();
+        }
+        return ret;
+    }
+
+    /**
+     * Removes an element handed out by linkFirst(Object) or elements(Object[]) if it still belongs to this list. The
+     element is found by identity, so this is only exact if the list does not recycle its elements.
+     * @param e  the element to be removed.
+     * @param fromLast  true to look for it from the last element backwards.
+     * @return true if it was found and removed.
+     */
+    boolean unlinkIfLinked(BidirectionalLinkedListElement<E> e, boolean fromLast){
+        BidirectionalLinkedListElement<E> x = fromLast ? tail : top;
+        for(int i = 0; i < length; i++, x = fromLast ? x.prev() : x.next()){
+            if(x == e){
+                unlink(e);
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -277,14 +764,625 @@ public class BidirectionalLinkedList<E>
     }
 
     /**
+     * Creates a new Cursor standing on the first element of the list. Any number of cursors can be used on the same list
+     independently of each other and of the pointer moved by next() and prev().
+     * @return a new Cursor over this list.
+     */
+    public Cursor cursor(){
+        return new Cursor(top, 0);
+    }
+
+    /**
+     * Creates a new Cursor standing on the element at index <index>. Reaching that element walks the list once, every
+     later move or edit done through the cursor takes constant time.
+     * @param index  the index of the element the cursor will stand on.
+     * @return a new Cursor over this list.
+     */
+    public Cursor cursor(int index) throws ListIndexOutOfBoundsException{
+        if(index >= length || index < -length) throw new ListIndexOutOfBoundsException();
+        BidirectionalLinkedListElement<E> e = get(index);
+        return new Cursor(e, (index + length)%length);
+    }
+
+    /**
+     * A Cursor stands on one element of the list and moves along the cyclic links in both directions. It can insert
+     before or after its element, replace it or remove it in O(1), without looking anything up by index.
+     *
+     * A cursor fails fast: once the list has been structurally modified by anything else than the cursor itself(the
+     list's own methods or another cursor) its methods throw a ConcurrentModificationException.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    public class Cursor
+    {
+        // instance variables
+        private BidirectionalLinkedListElement<E> current;          // the element the cursor stands on, null if the list is empty
+        private int index;                                          // index of the current element
+        private int expectedModCount = modCount;                    // modCount of the list the cursor is in sync with
+
+        /**
+         * Creates a cursor standing on the element e.
+         * @param e  the element to stand on.
+         * @param index  the index of that element.
+         */
+        private Cursor(BidirectionalLinkedListElement<E> e, int index){
+            current = e;
+            this.index = index;
+        }
+
+        /**
+         * @return the entry stored in the element the cursor stands on.
+         */
+        public E get(){
+            checkElement();
+            return current.getRefEntry();
+        }
+
+        /**
+         * Replaces the entry stored in the element the cursor stands on.
+         * @param o  the new entry.
+         */
+        public void set(E o){
+            checkElement();
+            current.setEntry(o);
+        }
+
+        /**
+         * @return the index of the element the cursor stands on.
+         */
+        public int index(){
+            checkElement();
+            return index;
+        }
+
+        /**
+         * Moves the cursor to the next element; from the last element it moves back to the first one.
+         * @return the entry stored in the element the cursor moved to.
+         */
+        public E next(){
+            checkElement();
+            current = current.next();
+            index = (index + 1)%length;
+            return current.getRefEntry();
+        }
+
+        /**
+         * Moves the cursor to the previous element; from the first element it moves to the last one.
+         * @return the entry stored in the element the cursor moved to.
+         */
+        public E prev(){
+            checkElement();
+            current = current.prev();
+            index = (index - 1 + length)%length;
+            return current.getRefEntry();
+        }
+
+        /**
+         * Inserts a new element right before the one the cursor stands on, the cursor does not move. Inserting before
+         the first element makes the new element the first one. On an empty list the new element becomes the only one
+         and the cursor stands on it.
+         * @param o  the entry to be added.
+         */
+        public void insertBefore(E o){
+            checkForComodification();
+            if(current == null){
+                addFirstElement(o);
+                return;
+            }
+            current.prev().addElement(newElement(o));
+            if(current == top) top = current.prev();
+            index++;
+            structurallyModified(1);
+        }
+
+        /**
+         * Inserts a new element right after the one the cursor stands on, the cursor does not move. Inserting after the
+         last element makes the new element the last one. On an empty list the new element becomes the only one and the
+         cursor stands on it.
+         * @param o  the entry to be added.
+         */
+        public void insertAfter(E o){
+            checkForComodification();
+            if(current == null){
+                addFirstElement(o);
+                return;
+            }
+            current.addElement(newElement(o));
+            if(current == tail) tail = current.next();
+            structurallyModified(1);
+        }
+
+        /**
+         * Moves every element of another list right after the one the cursor stands on, in O(1); the cursor does not
+         move and the other list is left empty. On an empty list the cursor ends up on the first moved element.
+         * @param list  the list whose elements are taken over.
+         */
+        public void spliceAfter(BidirectionalLinkedList<E> list){
+            checkForComodification();
+            if(list == BidirectionalLinkedList.this) throw new IllegalArgumentException("a list cannot be spliced into itself");
+            if(list.length == 0) return;
+            linkChain(current, list.top, list.tail, list.length);
+            list.detach();
+            if(current == null){
+                current = top;
+                index = 0;
+            }
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Removes the element the cursor stands on and moves the cursor to the next one(to the first one if the last
+         element was removed).
+         */
+        public void remove(){
+            checkElement();
+            BidirectionalLinkedListElement<E> e = current;
+            if(length == 1){                                    // the list gets empty
+                top = null;
+                tail = null;
+                pointing = null;
+                current = null;
+            } else{
+                e.prev().setNext(e.next());
+                e.next().setPrev(e.prev());
+                if(e == top) top = e.next();
+                if(e == tail){
+                    tail = e.prev();
+                    index = 0;
+                }
+                if(e == pointing) pointing = e.next();
+                current = e.next();
+            }
+            structurallyModified(-1);
+            recycle(e);
+        }
+
+        /**
+         * Creates the only element of a list that is empty and places the cursor on it.
+         * @param o  the entry to be added.
+         */
+        private void addFirstElement(E o){
+            add(o);
+            current = top;
+            index = 0;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Records a structural modification done through this cursor, in the list and in the cursor.
+         * @param delta  the change in the size of the list.
+         */
+        private void structurallyModified(int delta){
+            length += delta;
+            modCount++;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Makes sure that the list has not been modified behind the back of the cursor.
+         */
+        private void checkForComodification(){
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        /**
+         * Makes sure that the cursor is still valid and stands on an element.
+         */
+        private void checkElement(){
+            checkForComodification();
+            if(current == null) throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * @return an Iterator over the entries from the first to the last one, failing fast on concurrent modification.
+     */
+    @Override
+    public Iterator<E> iterator(){
+        return new BidirectionalLinkedListIterator();
+    }
+
+    /**
+     * Creates a view of the elements from index from(inclusive) to index to(exclusive), see LinkedListView. The view
+     copies nothing: it is bounded by references to its first and last elements and reads the list itself. Reaching the two
+     boundary elements walks the list from its nearer ends, the elements in between are not visited.
+     * @param from  the index of the first element of the view.
+     * @param to  the index after the last element of the view.
+     * @return a read-only view of that range, failing fast once the list is structurally modified.
+     */
+    public LinkedListView<E> subList(int from, int to) throws ListIndexOutOfBoundsException{
+        if(from < 0 || to > length || from > to) throw new ListIndexOutOfBoundsException();
+        if(from == to) return new BidirectionalLinkedListView(null, null);
+        return new BidirectionalLinkedListView(element(from), element(to - 1));
+    }
+
+    /**
+     * @return a read-only view of the whole list, created in O(1), to chain map, filter and limit on, see LinkedListView.
+     */
+    public LinkedListView<E> view(){
+        return new BidirectionalLinkedListView(top, tail);
+    }
+
+    /**
+     * @return a Spliterator over the entries, see BidirectionalLinkedListSpliterator.
+     */
+    @Override
+    public Spliterator<E> spliterator(){
+        return new BidirectionalLinkedListSpliterator(top, tail, length);
+    }
+
+    /**
+     * @return a sequential Stream over the entries of the list.
+     */
+    public Stream<E> stream(){
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return a parallel Stream over the entries of the list, splitting the list itself without copying it.
+     */
+    public Stream<E> parallelStream(){
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * The view returned by subList(int, int) and view(): the run of elements from first to last, both included, walked
+     along the links of the list.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private class BidirectionalLinkedListView extends LinkedListView<E>
+    {
+        // instance variables
+        private final BidirectionalLinkedListElement<E> first, last;   // ends of the run, both null if it is empty
+        private final int expectedModCount = modCount;              // modCount of the list the view is in sync with
+
+        /**
+         * @param first  the first element of the run, null if it is empty.
+         * @param last  the last element of the run, null if it is empty.
+         */
+        private BidirectionalLinkedListView(BidirectionalLinkedListElement<E> first, BidirectionalLinkedListElement<E> last){
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        public boolean forEachWhile(Predicate<? super E> action){
+            if(first == null) return true;
+            for(BidirectionalLinkedListElement<E> e = first; ; e = e.next()){
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(!action.test(e.getRefEntry())) return false;
+                if(e == last) return true;
+            }
+        }
+
+        @Override
+        public Iterator<E> iterator(){
+            return new Iterator<E>(){
+                private BidirectionalLinkedListElement<E> next = first;     // the element returned by the next call to next(), null at the end
+
+                @Override
+                public boolean hasNext(){
+                    return next != null;
+                }
+
+                @Override
+                public E next(){
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    if(next == null) throw new NoSuchElementException();
+                    E o = next.getRefEntry();
+                    next = next == last ? null : next.next();
+                    return o;
+                }
+            };
+        }
+    }
+
+    /**
+     * Iterates once over the entries from the first to the last one.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private class BidirectionalLinkedListIterator implements Iterator<E>
+    {
+        // instance variables
+        private BidirectionalLinkedListElement<E> next = top;       // the element returned by the next call to next()
+        private int remaining = length;                             // the number of elements not returned yet
+        private final int expectedModCount = modCount;              // modCount of the list the iterator is in sync with
+
+        @Override
+        public boolean hasNext(){
+            return remaining > 0;
+        }
+
+        @Override
+        public E next(){
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(remaining == 0) throw new NoSuchElementException();
+            E o = next.getRefEntry();
+            next = next.next();
+            remaining--;
+            return o;
+        }
+    }
+
+    /**
+     * A Spliterator over a run of consecutive elements. It is SIZED, SUBSIZED and ORDERED: the length of the list is
+     known, so every split is exactly balanced.
+     *
+     * The run is described by its number of elements and by its first and/or its last element, at least one of them
+     being known. Splitting a run whose both ends are known takes O(1): the prefix keeps the first element and this
+     spliterator keeps the last one. Otherwise the missing boundary is reached by walking from the known end - forward
+     from the top side for prefixes, backward from the tail side for suffixes. Those walks happen in the thread that
+     owns the spliterator, so in a parallel stream the list is walked from both of its ends by different threads at the
+     same time instead of by the thread that splits it.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private class BidirectionalLinkedListSpliterator implements Spliterator<E>
+    {
+        // class variables
+        private static final int MIN_SPLIT = 128;                   // runs shorter than this are not split
+
+        // instance variables
+        private BidirectionalLinkedListElement<E> first, last;      // ends of the run, null when not known
+        private int count;                                          // number of elements in the run
+        private final int expectedModCount = modCount;              // modCount of the list the spliterator is in sync with
+
+        /**
+         * @param first  the first element of the run, or null.
+         * @param last  the last element of the run, or null.
+         * @param count  the number of elements in the run.
+         */
+        private BidirectionalLinkedListSpliterator(BidirectionalLinkedListElement<E> first,
+                                                   BidirectionalLinkedListElement<E> last, int count){
+            this.first = first;
+            this.last = last;
+            this.count = count;
+        }
+
+        @Override
+        public Spliterator<E> trySplit(){
+            if(count < MIN_SPLIT) return null;
+            int half = count/2;
+            BidirectionalLinkedListSpliterator prefix;
+            if(first != null && last != null){                      // O(1): each half keeps one of the known ends
+                prefix = new BidirectionalLinkedListSpliterator(first, null, half);
+                first = null;
+            } else if(first != null){                               // walking forward to the start of the suffix
+                BidirectionalLinkedListElement<E> mid = first;
+                for(int i = 0; i < half; i++) mid = mid.next();
+                prefix = new BidirectionalLinkedListSpliterator(first, mid.prev(), half);
+                first = mid;
+            } else{                                                 // walking backward to the end of the prefix
+                BidirectionalLinkedListElement<E> mid = last;
+                for(int i = count - half; i > 0; i--) mid = mid.prev();
+                prefix = new BidirectionalLinkedListSpliterator(null, mid, half);
+                first = mid.next();
+            }
+            count -= half;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action){
+            if(count == 0) return false;
+            E o = resolveFirst().getRefEntry();
+            first = first.next();
+            count--;
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            action.accept(o);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action){
+            if(count == 0) return;
+            BidirectionalLinkedListElement<E> e = resolveFirst();
+            for(; count > 0; count--){
+                action.accept(e.getRefEntry());
+                e = e.next();
+            }
+            first = e;
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize(){
+            return count;
+        }
+
+        @Override
+        public int characteristics(){
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        /**
+         * @return the first element of the run, found by walking backward from the last one if it was not known.
+         */
+        private BidirectionalLinkedListElement<E> resolveFirst(){
+            if(first == null){
+                first = last;
+                for(int i = 1; i < count; i++) first = first.prev();
+            }
+            return first;
+        }
+    }
+
+    /**
+     * Sorts a chain of elements ending with null for parallelSort(Comparator): long chains are cut in two halves that
+     are sorted by two subtasks and then merged, chains of at most PARALLEL_SORT_SEGMENT elements are sorted by
+     mergeSort(...).
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private class BidirectionalLinkedListSorter extends RecursiveTask<BidirectionalLinkedListElement<E>>
+    {
+        // class variables
+        private static final long serialVersionUID = 1L;                // RecursiveTask is Serializable
+
+        // instance variables
+        private final BidirectionalLinkedListElement<E> first;                                      // first element of the chain
+        private final int count;                                        // number of elements in the chain
+        private final Comparator<? super E> comparator;
+
+        /**
+         * @param first  the first element of the chain.
+         * @param count  the number of elements in the chain.
+         * @param comparator  the comparator.
+         */
+        private BidirectionalLinkedListSorter(BidirectionalLinkedListElement<E> first, int count, Comparator<? super E> comparator){
+            this.first = first;
+            this.count = count;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected BidirectionalLinkedListElement<E> compute(){
+            if(count <= PARALLEL_SORT_SEGMENT) return mergeSort(first, comparator);
+            int half = count/2;
+            BidirectionalLinkedListElement<E> middle = first;
+            for(int i = 1; i < half; i++) middle = middle.next();
+            BidirectionalLinkedListElement<E> second = middle.next();
+            middle.setNext(null);                                     // cutting the chain in two
+            BidirectionalLinkedListSorter right = new BidirectionalLinkedListSorter(second, count - half, comparator);
+            right.fork();
+            BidirectionalLinkedListElement<E> left = new BidirectionalLinkedListSorter(first, half, comparator).compute();
+            return merge(left, right.join(), comparator);
+        }
+    }
+
+    /**
+     * Appends the String representation of the list, see toString(), to out in a single pass over the elements. Only
+     the strings of the entries themselves are created, so a list of any size can be written to a Writer without
+     building the whole String in memory first.
+     * @param out  the destination of the characters, e.g. a StringBuilder or a Writer.
+     */
+    public void writeTo(Appendable out) throws IOException{
+        out.append("[ ");
+        BidirectionalLinkedListElement<E> e = top;
+        for(int i = 0; i < length; i++, e = e.next()){
+            if(i > 0) out.append(", ");
+            out.append(String.valueOf(e.getRefEntry()));
+        }
+        out.append(" ]");
+    }
+
+    /**
+     * Writes the list in binary form to out: a header holding the number of elements, followed by every entry written
+     by codec, from the first to the last one. The list is walked once and the bytes pass through a fixed-size buffer,
+     so the memory used does not depend on the size of the list. out is flushed but not closed.
+     * @param out  the destination of the bytes.
+     * @param codec  writes the entries, see ElementCodec.
+     */
+    public void writeTo(OutputStream out, ElementCodec<? super E> codec) throws IOException{
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, BinaryListFormat.BUFFER_SIZE));
+        BinaryListFormat.writeHeader(data, length);
+        BidirectionalLinkedListElement<E> e = top;
+        for(int i = 0; i < length; i++, e = e.next()){
+            codec.write(e.getRefEntry(), data);
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes the list in binary form to a channel, see writeTo(OutputStream, ElementCodec). The channel is not closed.
+     * @param out  the destination of the bytes.
+     * @param codec  writes the entries, see ElementCodec.
+     */
+    public void writeTo(WritableByteChannel out, ElementCodec<? super E> codec) throws IOException{
+        writeTo(Channels.newOutputStream(out), codec);
+    }
+
+    /**
+     * Reads back a list written by writeTo(OutputStream, ElementCodec). Exactly the bytes of the list are consumed, so
+     more data may follow it in the stream; for the same reason in is read as it is, and should be buffered(e.g. a
+     BufferedInputStream) if every read goes to a file or a socket.
+     * @param in  the source of the bytes.
+     * @param codec  reads the entries, the counterpart of the codec the list was written with.
+     * @return a new list holding the entries read, in their order.
+     */
+    public static <E> BidirectionalLinkedList<E> readFrom(InputStream in, ElementCodec<? extends E> codec) throws IOException{
+        DataInputStream data = new DataInputStream(in);
+        int n = BinaryListFormat.readHeader(data);
+        BidirectionalLinkedList<E> list = new BidirectionalLinkedList<E>();
+        for(int i = 0; i < n; i++){
+            list.add(codec.read(data));
+        }
+        return list;
+    }
+
+    /**
+     * Reads back a list written by writeTo(WritableByteChannel, ElementCodec) or writeTo(OutputStream, ElementCodec).
+     The channel is read through a buffer, which may take bytes beyond the end of the list out of the channel; use
+     readFrom(InputStream, ElementCodec) if more data follows the list.
+     * @param in  the source of the bytes.
+     * @param codec  reads the entries, the counterpart of the codec the list was written with.
+     * @return a new list holding the entries read, in their order.
+     */
+    public static <E> BidirectionalLinkedList<E> readFrom(ReadableByteChannel in, ElementCodec<? extends E> codec) throws IOException{
+        return readFrom(new BufferedInputStream(Channels.newInputStream(in), BinaryListFormat.BUFFER_SIZE), codec);
+    }
+
+    /**
+     * Writes the serialized form of the list: its settings, the number of elements and then the entries, from the first
+     to the last one. The elements themselves are never serialized, so the depth of the stream does not grow with the
+     size of the list as it would if the cycle of references were followed.
+     * @param out  the stream.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException{
+        out.defaultWriteObject();
+        out.writeInt(length);
+        BidirectionalLinkedListElement<E> e = top;
+        for(int i = 0; i < length; i++, e = e.next()){
+            if(compactSerialization){
+                BinaryListFormat.writeCompact(out, e.getRefEntry());
+            } else{
+                out.writeObject(e.getRefEntry());
+            }
+        }
+    }
+
+    /**
+     * Reads the serialized form written by writeObject(ObjectOutputStream) and links the elements again one after the
+     other. The pointer is on the first element and the pool is empty.
+     * @param in  the stream.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException{
+        in.defaultReadObject();
+        if(poolCapacity < 0) throw new InvalidObjectException("negative pool capacity " + poolCapacity);
+        int n = in.readInt();
+        if(n < 0) throw new InvalidObjectException("negative length " + n);
+        for(int i = 0; i < n; i++){
+            add((E)(compactSerialization ? BinaryListFormat.readCompact(in) : in.readObject()));
+        }
+    }
+
+    /**
+     * The characters are appended to a StringBuilder presized from the first entry, in a single pass over the
+     elements, so the time taken grows linearly with the size of the list.
      * @return the String representation of the entries stored in the list in format "[ ob1.toString(), ob2.toString ... ]"
      */
     @Override
-    public String toString() throws ListIndexOutOfBoundsException{
-        String ret = "[ " + get(0);
-        for(int i = 1; i < length; i++){
-            ret += ", " + get(i).toString();
+    public String toString(){
+        if(length == 0) return "[  ]";
+        long start = ListStatistics.ENABLED ? System.nanoTime() : 0L;
+        String first = String.valueOf(top.getRefEntry());
+        long estimate = 4L + (long)length*(first.length() + 2);
+        StringBuilder ret = new StringBuilder((int)Math.min(estimate, MAX_PRESIZE));
+        ret.append("[ ").append(first);
+        BidirectionalLinkedListElement<E> e = top.next();
+        for(int i = 1; i < length; i++, e = e.next()){
+            ret.append(", ").append(String.valueOf(e.getRefEntry()));
         }
-        return ret + " ]";
+        ret.append(" ]");
+        if(ListStatistics.ENABLED) STATISTICS.record(ListStatistics.Operation.TO_STRING, start, length, length);
+        return ret.toString();
     }
 }
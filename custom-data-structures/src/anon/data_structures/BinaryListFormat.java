@@ -0,0 +1,127 @@
+package anon.data_structures;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+
+/**
+ * The binary form shared by writeTo(OutputStream, ElementCodec) and readFrom(InputStream, ElementCodec) of the lists:
+     ______________________________________________________________________
+     |  MAGIC(int)  |  length(int)  |  entry 0  |  entry 1  |  ...  |  entry length - 1  |
+     |______________|_______________|___________|___________|_______|____________________|
+ *
+ * The entries are written by an ElementCodec. Since the length comes first, a reader knows where the list ends and
+ never reads past it.
+ *
+ * The compact serialized form of the lists(see setCompactSerialization(boolean)) writes every entry as a tag byte
+ followed by its value: the boxed primitives and Strings as raw bytes, null as the tag alone, and any other entry by
+ ObjectOutput.writeObject(Object).
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+final class BinaryListFormat
+{
+    // class variables
+    static final int MAGIC = 0x43444C31;                        // "CDL1"
+    static final int BUFFER_SIZE = 8192;                        // bytes buffered between the lists and the streams
+    private static final byte OBJECT = 0, NULL = 1, INT = 2, LONG = 3, DOUBLE = 4, STRING = 5,    // tags of the
+                              FLOAT = 6, SHORT = 7, BYTE = 8, CHAR = 9, BOOLEAN = 10;           // compact entries
+
+    /**
+     * Cannot be instantiated.
+     */
+    private BinaryListFormat(){
+
+    }
+
+    /**
+     * Writes the header of a list.
+     * @param out  the output.
+     * @param length  the number of entries that will follow.
+     */
+    static void writeHeader(DataOutput out, int length) throws IOException{
+        out.writeInt(MAGIC);
+        out.writeInt(length);
+    }
+
+    /**
+     * Reads the header of a list.
+     * @param in  the input.
+     * @return the number of entries that follow.
+     */
+    static int readHeader(DataInput in) throws IOException{
+        int magic = in.readInt();
+        if(magic != MAGIC) throw new StreamCorruptedException("not a list: bad magic " + Integer.toHexString(magic));
+        int length = in.readInt();
+        if(length < 0) throw new StreamCorruptedException("negative length " + length);
+        return length;
+    }
+
+    /**
+     * Writes an entry in the compact form, see the class description.
+     * @param out  the output.
+     * @param o  the entry, which may be null.
+     */
+    static void writeCompact(ObjectOutput out, Object o) throws IOException{
+        if(o == null){
+            out.writeByte(NULL);
+        } else if(o.getClass() == Integer.class){
+            out.writeByte(INT);
+            ElementCodec.INT.write((Integer)o, out);
+        } else if(o.getClass() == Long.class){
+            out.writeByte(LONG);
+            ElementCodec.LONG.write((Long)o, out);
+        } else if(o.getClass() == Double.class){
+            out.writeByte(DOUBLE);
+            ElementCodec.DOUBLE.write((Double)o, out);
+        } else if(o.getClass() == String.class){
+            out.writeByte(STRING);
+            ElementCodec.STRING.write((String)o, out);
+        } else if(o.getClass() == Float.class){
+            out.writeByte(FLOAT);
+            out.writeFloat((Float)o);
+        } else if(o.getClass() == Short.class){
+            out.writeByte(SHORT);
+            out.writeShort((Short)o);
+        } else if(o.getClass() == Byte.class){
+            out.writeByte(BYTE);
+            out.writeByte((Byte)o);
+        } else if(o.getClass() == Character.class){
+            out.writeByte(CHAR);
+            out.writeChar((Character)o);
+        } else if(o.getClass() == Boolean.class){
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean)o);
+        } else{
+            out.writeByte(OBJECT);
+            out.writeObject(o);
+        }
+    }
+
+    /**
+     * Reads back an entry written by writeCompact(ObjectOutput, Object).
+     * @param in  the input.
+     * @return the entry, which may be null.
+     */
+    static Object readCompact(ObjectInput in) throws IOException, ClassNotFoundException{
+        byte tag = in.readByte();
+        switch(tag){
+            case NULL:      return null;
+            case INT:       return ElementCodec.INT.read(in);
+            case LONG:      return ElementCodec.LONG.read(in);
+            case DOUBLE:    return ElementCodec.DOUBLE.read(in);
+            case STRING:    return ElementCodec.STRING.read(in);
+            case FLOAT:     return in.readFloat();
+            case SHORT:     return in.readShort();
+            case BYTE:      return in.readByte();
+            case CHAR:      return in.readChar();
+            case BOOLEAN:   return in.readBoolean();
+            case OBJECT:    return in.readObject();
+            default:        throw new StreamCorruptedException("unknown entry tag " + tag);
+        }
+    }
+}
@@ -0,0 +1,686 @@
+package anon.data_structures;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class defines an optionally bounded BlockingDeque over the elements of a BidirectionalLinkedList, to hand work
+ between producer and consumer threads without polling: take() and put(E) sleep until an entry or some room is
+ available, the timed poll and offer methods give up after a while, and drainTo(Collection, int) moves a whole batch of
+ entries to a consumer under a single acquisition of the lock.
+ *
+ * The deque is guarded by one ReentrantLock with two Conditions, notEmpty and notFull. The lock is not split into a head
+ and a tail lock like in a two-lock queue: the list is cyclic(the last element links back to the first one), so adding
+ or removing at either end rewrites the links of both ends, and both ends are taken and added at anyway. One lock keeps
+ every operation O(1) and simple; batching with drainTo(Collection, int) and addAll(Collection) is what amortizes it.
+ *
+ * Threads wait on Conditions, never in synchronized blocks or Object.wait(), so virtual threads waiting on the deque
+ unmount from their carrier thread instead of pinning it, and thousands of them can wait on one deque. A single new
+ entry or freed slot signals a single waiting thread, so they are not all woken up at once.
+ *
+ * Like every BlockingDeque, the deque does not accept null entries. Its iterators work on a copy of the entries taken
+ when they are created, so they never throw a ConcurrentModificationException and never hold the lock while the caller
+ runs.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public class BlockingBidirectionalLinkedList<E> extends AbstractQueue<E> implements BlockingDeque<E>
+{
+    // instance variables
+    private final BidirectionalLinkedList<E> list = new BidirectionalLinkedList<E>();   // the entries, first to last
+    private final int capacity;                                     // most entries the deque may hold
+    private final ReentrantLock lock = new ReentrantLock();         // guards list
+    private final Condition notEmpty = lock.newCondition();         // signalled when an entry is added
+    private final Condition notFull = lock.newCondition();          // signalled when an entry is removed
+
+    /**
+     * The no-arg constructor to create an empty deque with no bound other than Integer.MAX_VALUE.
+     */
+    public BlockingBidirectionalLinkedList(){
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates an empty deque holding at most capacity entries.
+     * @param capacity  the bound of the deque.
+     */
+    public BlockingBidirectionalLinkedList(int capacity){
+        if(capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds o in front of the first entry if there is room.
+     * @param o  the entry to be added.
+     * @return true if it was added, false if the deque is full.
+     */
+    @Override
+    public boolean offerFirst(E o){
+        Objects.requireNonNull(o);
+        lock.lock();
+        try{
+            if(list.size() >= capacity) return false;
+            list.linkFirst(o);
+            notEmpty.signal();
+            return true;
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds o after the last entry if there is room.
+     * @param o  the entry to be added.
+     * @return true if it was added, false if the deque is full.
+     */
+    @Override
+    public boolean offerLast(E o){
+        Objects.requireNonNull(o);
+        lock.lock();
+        try{
+            if(list.size() >= capacity) return false;
+            list.add(o);
+            notEmpty.signal();
+            return true;
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds o in front of the first entry, waiting for room if the deque is full.
+     * @param o  the entry to be added.
+     */
+    @Override
+    public void putFirst(E o) throws InterruptedException{
+        Objects.requireNonNull(o);
+        lock.lockInterruptibly();
+        try{
+            while(list.size() >= capacity) notFull.await();
+            list.linkFirst(o);
+            notEmpty.signal();
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds o after the last entry, waiting for room if the deque is full.
+     * @param o  the entry to be added.
+     */
+    @Override
+    public void putLast(E o) throws InterruptedException{
+        Objects.requireNonNull(o);
+        lock.lockInterruptibly();
+        try{
+            while(list.size() >= capacity) notFull.await();
+            list.add(o);
+            notEmpty.signal();
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds o in front of the first entry, waiting up to the timeout for room if the deque is full.
+     * @param o  the entry to be added.
+     * @param timeout  how long to wait, in units of unit.
+     * @param unit  the unit of timeout.
+     * @return true if it was added, false if the timeout elapsed first.
+     */
+    @Override
+    public boolean offerFirst(E o, long timeout, TimeUnit unit) throws InterruptedException{
+        Objects.requireNonNull(o);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try{
+            while(list.size() >= capacity){
+                if(nanos <= 0L) return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+            list.linkFirst(o);
+            notEmpty.signal();
+            return true;
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds o after the last entry, waiting up to the timeout for room if the deque is full.
+     * @param o  the entry to be added.
+     * @param timeout  how long to wait, in units of unit.
+     * @param unit  the unit of timeout.
+     * @return true if it was added, false if the timeout elapsed first.
+     */
+    @Override
+    public boolean offerLast(E o, long timeout, TimeUnit unit) throws InterruptedException{
+        Objects.requireNonNull(o);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try{
+            while(list.size() >= capacity){
+                if(nanos <= 0L) return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+            list.add(o);
+            notEmpty.signal();
+            return true;
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the first entry, which is removed, or null if the deque is empty.
+     */
+    @Override
+    public E pollFirst(){
+        lock.lock();
+        try{
+            return list.size() == 0 ? null : unlink(0);
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the last entry, which is removed, or null if the deque is empty.
+     */
+    @Override
+    public E pollLast(){
+        lock.lock();
+        try{
+            return list.size() == 0 ? null : unlink(-1);
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the first entry, waiting for one if the deque is empty.
+     * @return the entry removed.
+     */
+    @Override
+    public E takeFirst() throws InterruptedException{
+        lock.lockInterruptibly();
+        try{
+            while(list.size() == 0) notEmpty.await();
+            return unlink(0);
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the last entry, waiting for one if the deque is empty.
+     * @return the entry removed.
+     */
+    @Override
+    public E takeLast() throws InterruptedException{
+        lock.lockInterruptibly();
+        try{
+            while(list.size() == 0) notEmpty.await();
+            return unlink(-1);
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the first entry, waiting up to the timeout for one if the deque is empty.
+     * @param timeout  how long to wait, in units of unit.
+     * @param unit  the unit of timeout.
+     * @return the entry removed, or null if the timeout elapsed first.
+     */
+    @Override
+    public E pollFirst(long timeout, TimeUnit unit) throws InterruptedException{
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try{
+            while(list.size() == 0){
+                if(nanos <= 0L) return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return unlink(0);
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the last entry, waiting up to the timeout for one if the deque is empty.
+     * @param timeout  how long to wait, in units of unit.
+     * @param unit  the unit of timeout.
+     * @return the entry removed, or null if the timeout elapsed first.
+     */
+    @Override
+    public E pollLast(long timeout, TimeUnit unit) throws InterruptedException{
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try{
+            while(list.size() == 0){
+                if(nanos <= 0L) return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return unlink(-1);
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the first entry, or null if the deque is empty.
+     */
+    @Override
+    public E peekFirst(){
+        lock.lock();
+        try{
+            return list.size() == 0 ? null : list.getElement(0);
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the last entry, or null if the deque is empty.
+     */
+    @Override
+    public E peekLast(){
+        lock.lock();
+        try{
+            return list.size() == 0 ? null : list.lastEntry();
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves up to maxElements entries, from the first one on, to c under a single acquisition of the lock and wakes up
+     as many producers waiting for room.
+     * @param c  the collection the entries are added to.
+     * @param maxElements  the most entries to be moved.
+     * @return the number of entries moved.
+     */
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements){
+        Objects.requireNonNull(c);
+        if(c == this) throw new IllegalArgumentException("a deque cannot be drained to itself");
+        if(maxElements <= 0) return 0;
+        lock.lock();
+        try{
+            int n = Math.min(maxElements, list.size());
+            for(int i = 0; i < n; i++){
+                c.add(list.getElement(0));          // if c throws, the entries moved so far are already removed
+                list.remove(0);
+                notFull.signal();
+            }
+            return n;
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves every entry to c, see drainTo(Collection, int).
+     * @param c  the collection the entries are added to.
+     * @return the number of entries moved.
+     */
+    @Override
+    public int drainTo(Collection<? super E> c){
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Adds the entries of c after the last entry under a single acquisition of the lock.
+     * @param c  the entries to be added, in their iteration order.
+     * @return true if the deque changed.
+     * @throws IllegalStateException if the deque gets full; the entries added up to then stay.
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c){
+        if(c == this) throw new IllegalArgumentException("a deque cannot be added to itself");
+        Object[] entries = c.toArray();                 // copied outside the lock
+        for(Object o : entries) Objects.requireNonNull(o);
+        if(entries.length == 0) return false;
+        lock.lock();
+        try{
+            for(Object o : entries){
+                if(list.size() >= capacity) throw new IllegalStateException("Deque full");
+                @SuppressWarnings("unchecked")
+                E e = (E)o;
+                list.add(e);
+                notEmpty.signal();
+            }
+            return true;
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o){
+        return o != null && removeOccurrence(o, false);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o){
+        return o != null && removeOccurrence(o, true);
+    }
+
+    @Override
+    public boolean contains(Object o){
+        if(o == null) return false;
+        lock.lock();
+        try{
+            for(E e : list) if(o.equals(e)) return true;
+            return false;
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of entries in the deque.
+     */
+    @Override
+    public int size(){
+        lock.lock();
+        try{
+            return list.size();
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of entries that can still be added without waiting.
+     */
+    @Override
+    public int remainingCapacity(){
+        lock.lock();
+        try{
+            return capacity - list.size();
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every entry and wakes up every producer waiting for room.
+     */
+    @Override
+    public void clear(){
+        lock.lock();
+        try{
+            list.clear();
+            notFull.signalAll();
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return an iterator over a copy of the entries, from the first to the last one.
+     */
+    @Override
+    public Iterator<E> iterator(){
+        return new BlockingBidirectionalLinkedListIterator(false);
+    }
+
+    /**
+     * @return an iterator over a copy of the entries, from the last to the first one.
+     */
+    @Override
+    public Iterator<E> descendingIterator(){
+        return new BlockingBidirectionalLinkedListIterator(true);
+    }
+
+    @Override
+    public Object[] toArray(){
+        lock.lock();
+        try{
+            Object[] ret = new Object[list.size()];
+            int i = 0;
+            for(E e : list) ret[i++] = e;
+            return ret;
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the String representation of the entries stored in the deque in format "[ ob1.toString(), ob2.toString ... ]"
+     */
+    @Override
+    public String toString(){
+        lock.lock();
+        try{
+            return list.toString();
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /*
+     * The remaining methods of Deque and BlockingQueue, expressed by the ones above.
+     */
+
+    @Override
+    public void addFirst(E o){
+        if(!offerFirst(o)) throw new IllegalStateException("Deque full");
+    }
+
+    @Override
+    public void addLast(E o){
+        if(!offerLast(o)) throw new IllegalStateException("Deque full");
+    }
+
+    @Override
+    public E removeFirst(){
+        E o = pollFirst();
+        if(o == null) throw new NoSuchElementException();
+        return o;
+    }
+
+    @Override
+    public E removeLast(){
+        E o = pollLast();
+        if(o == null) throw new NoSuchElementException();
+        return o;
+    }
+
+    @Override
+    public E getFirst(){
+        E o = peekFirst();
+        if(o == null) throw new NoSuchElementException();
+        return o;
+    }
+
+    @Override
+    public E getLast(){
+        E o = peekLast();
+        if(o == null) throw new NoSuchElementException();
+        return o;
+    }
+
+    @Override
+    public boolean add(E o){
+        addLast(o);
+        return true;
+    }
+
+    @Override
+    public boolean offer(E o){
+        return offerLast(o);
+    }
+
+    @Override
+    public void put(E o) throws InterruptedException{
+        putLast(o);
+    }
+
+    @Override
+    public boolean offer(E o, long timeout, TimeUnit unit) throws InterruptedException{
+        return offerLast(o, timeout, unit);
+    }
+
+    @Override
+    public E remove(){
+        return removeFirst();
+    }
+
+    @Override
+    public E poll(){
+        return pollFirst();
+    }
+
+    @Override
+    public E take() throws InterruptedException{
+        return takeFirst();
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException{
+        return pollFirst(timeout, unit);
+    }
+
+    @Override
+    public E element(){
+        return getFirst();
+    }
+
+    @Override
+    public E peek(){
+        return peekFirst();
+    }
+
+    @Override
+    public boolean remove(Object o){
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    public void push(E o){
+        addFirst(o);
+    }
+
+    @Override
+    public E pop(){
+        return removeFirst();
+    }
+
+    /**
+     * Removes the first or the last entry and wakes up a producer waiting for room. Must be called holding the lock on
+     a deque that is not empty.
+     * @param index  0 for the first entry, -1 for the last one.
+     * @return the entry removed.
+     */
+    private E unlink(int index){
+        E o = list.getElement(index);
+        list.remove(index);
+        notFull.signal();
+        return o;
+    }
+
+    /**
+     * Removes the first entry met that is equal to o, walking from either end.
+     * @param o  the entry to be removed.
+     * @param fromLast  true to walk from the last entry backwards.
+     * @return true if an entry was removed.
+     */
+    private boolean removeOccurrence(Object o, boolean fromLast){
+        lock.lock();
+        try{
+            int n = list.size();
+            if(n == 0) return false;
+            BidirectionalLinkedList<E>.Cursor c = fromLast ? list.cursor(-1) : list.cursor();
+            for(int i = 0; i < n; i++){
+                E e = c.get();
+                if(o.equals(e)){
+                    c.remove();
+                    notFull.signal();
+                    return true;
+                }
+                if(fromLast){
+                    c.prev();
+                } else{
+                    c.next();
+                }
+            }
+            return false;
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * This class iterates over a copy of the entries taken when it is created. It also keeps the elements holding them,
+     so remove() unlinks the very element last returned, if it is still in the deque; an instance queued twice loses the
+     occurrence the iterator stands on, not the first one. The list of the deque never recycles its elements, so an
+     element removed in the meantime cannot come back holding another entry.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private final class BlockingBidirectionalLinkedListIterator implements Iterator<E>
+    {
+        // instance variables
+        private final Object[] entries;                             // the copy
+        private final Object[] elements;                            // the elements holding the copied entries
+        private final boolean descending;                           // true to go from the last entry to the first one
+        private int next = 0;                                       // number of entries returned so far
+        private int last = -1;                                      // index of the entry last returned, -1 after remove()
+
+        /**
+         * @param descending  true to go from the last entry to the first one.
+         */
+        private BlockingBidirectionalLinkedListIterator(boolean descending){
+            this.descending = descending;
+            lock.lock();
+            try{
+                entries = new Object[list.size()];
+                elements = list.elements(entries);
+            } finally{
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public boolean hasNext(){
+            return next < entries.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next(){
+            if(next == entries.length) throw new NoSuchElementException();
+            last = descending ? entries.length - 1 - next : next;
+            next++;
+            return (E)entries[last];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void remove(){
+            if(last < 0) throw new IllegalStateException();
+            lock.lock();
+            try{
+                if(list.unlinkIfLinked((BidirectionalLinkedList.BidirectionalLinkedListElement<E>)elements[last], descending)){
+                    notFull.signal();
+                }
+            } finally{
+                lock.unlock();
+            }
+            last = -1;
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package anon.data_structures;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * This class defines a unidirectional, cyclic Linked-List that can be shared between threads without any lock. The
+ elements are linked through a sentinel element holding no entry, the last element linking back to the sentinel.
+     ______________        ___________________        ___________________                   ___________________
+     |          |   |      |          |        |      |          |        |                 |          |        |
+     | sentinel |  o------>| Object o |   o-------->| Object o |   o------ ... n elements ->| Object o |   o    |
+     |__________|___|      |__________|________|      |__________|________|                 |__________|___|____|
+          ^                                                                                                |
+          |________________________________________________________________________________________________|
+ *
+ * Every link is an AtomicMarkableReference. Removing an element first marks its own link(the element is then
+ logically removed and no element can be linked after it anymore) and then swings the link of its predecessor past
+ it. The second step may be left to any later traversal, which unlinks every marked element it walks over, as in the
+ lists of Harris and Michael. Appending, inserting after an element and removing are therefore lock-free.
+ *
+ * Traversals are weakly consistent: they never fail because of concurrent changes, they see every element that was
+ present for the whole traversal, and may or may not see the elements added or removed meanwhile. For the same reason
+ size() and the indices used by the positional methods are only exact while the list is not being modified.
+ *
+ * Just like most other data-structures, the indexing begins from 0.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public class ConcurrentUnidirectionalLinkedList<E>
+{
+    // instance variables
+    private final ConcurrentUnidirectionalLinkedListElement<E> head;               // the sentinel
+    private final AtomicReference<ConcurrentUnidirectionalLinkedListElement<E>> tail;  // recently appended element, a hint only
+    private final AtomicInteger length = new AtomicInteger();                     // number of elements not removed
+
+    /**
+     * An element of the list: the entry and a markable link to the next element. A marked link means that the element
+     itself has been removed.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private static class ConcurrentUnidirectionalLinkedListElement<E>
+    {
+        // instance variables
+        private volatile E element;                                                    // to store the data
+        private final AtomicMarkableReference<ConcurrentUnidirectionalLinkedListElement<E>> next;  // the next element
+
+        /**
+         * Creates an element storing o and linking to next.
+         * @param o  the entry to be stored.
+         * @param next  the next element, null for the sentinel which links to itself.
+         */
+        private ConcurrentUnidirectionalLinkedListElement(E o, ConcurrentUnidirectionalLinkedListElement<E> next){
+            element = o;
+            this.next = new AtomicMarkableReference<ConcurrentUnidirectionalLinkedListElement<E>>((next == null)? this : next, false);
+        }
+
+        /**
+         * @return true if the element has been removed from the list.
+         */
+        private boolean isRemoved(){
+            return next.isMarked();
+        }
+
+        /**
+         * Logically removes the element by marking its link.
+         * @return true if this call removed it, false if it had already been removed.
+         */
+        private boolean markRemoved(){
+            for(;;){
+                ConcurrentUnidirectionalLinkedListElement<E> succ = next.getReference();
+                if(next.isMarked()) return false;
+                if(next.compareAndSet(succ, succ, false, true)) return true;
+            }
+        }
+    }
+
+    /**
+     * The no-arg constructor to create an empty list.
+     */
+    public ConcurrentUnidirectionalLinkedList(){
+        head = new ConcurrentUnidirectionalLinkedListElement<E>(null, null);
+        tail = new AtomicReference<ConcurrentUnidirectionalLinkedListElement<E>>(head);
+    }
+
+    /**
+     * This constructor creates a new list with only one element that is being passed as argument.
+     * @param o The element to be contained in the list.
+     */
+    public ConcurrentUnidirectionalLinkedList(E o){
+        this();
+        add(o);
+    }
+
+    /**
+     * @return the number of elements in the list, exact only while no other thread modifies it.
+     */
+    public int size(){
+        return length.get();
+    }
+
+    /**
+     * @param index  the index of the element to be retrieved.
+     * @return the entry contained at the element at the specified index.
+     */
+    public E getElement(int index) throws ListIndexOutOfBoundsException{
+        return get(index).element;
+    }
+
+    /**
+     * This method adds an element at the end of the list.
+     * @param o  the entry to be added to the new element.
+     */
+    public void add(E o){
+        ConcurrentUnidirectionalLinkedListElement<E> e = new ConcurrentUnidirectionalLinkedListElement<E>(o, head);
+        for(;;){
+            ConcurrentUnidirectionalLinkedListElement<E> hint = tail.get();
+            ConcurrentUnidirectionalLinkedListElement<E> last = hint.isRemoved()? head : hint;
+            for(ConcurrentUnidirectionalLinkedListElement<E> n; (n = nextLive(last)) != head; ){
+                last = n;                                                       // walking to the last element
+            }
+            if(last.next.compareAndSet(head, e, false, false)){               // linked, unless last changed meanwhile
+                tail.compareAndSet(hint, e);
+                length.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * This method adds a new element in the MIDDLE(not the end) of the list such that the new element has <index> = index
+     * @param index  the index value of the new element.
+     * @param o  entry to be contained in the new element
+     */
+    public void add(E o, int index) throws ListIndexOutOfBoundsException{
+        for(;;){
+            ConcurrentUnidirectionalLinkedListElement<E> before = (index == 0)? head : get(index - 1);
+            if(nextLive(before) == head) throw new ListIndexOutOfBoundsException();
+            if(insertAfter(before, o)) return;
+        }
+    }
+
+    /**
+     * Removes the element at index <index> in the list.
+     * @param index  the index of the element which has to be removed.
+     * @return the entry the removed element contained.
+     */
+    public E remove(int index) throws ListIndexOutOfBoundsException{
+        for(;;){
+            ConcurrentUnidirectionalLinkedListElement<E> before = (index == 0)? head : get(index - 1);
+            ConcurrentUnidirectionalLinkedListElement<E> e = nextLive(before);
+            if(e == head) throw new ListIndexOutOfBoundsException();
+            if(remove(before, e)) return e.element;
+        }
+    }
+
+    /**
+     * Removes the first element containing an entry equal to o.
+     * @param o  the entry to be removed.
+     * @return true if an element was removed.
+     */
+    public boolean remove(Object o){
+        for(;;){
+            ConcurrentUnidirectionalLinkedListElement<E> before = head, e;
+            while((e = nextLive(before)) != head && !equal(o, e.element)){
+                before = e;
+            }
+            if(e == head) return false;
+            if(remove(before, e)) return true;
+        }
+    }
+
+    /**
+     * This method updates the entry in the element at index <index> and sets it to the passed argument.
+     * @param o  the new entry
+     * @param index  the index of the element to be updated
+     */
+    public void setEntry(E o, int index) throws ListIndexOutOfBoundsException{
+        get(index).element = o;
+    }
+
+    /**
+     * @return a new Cursor standing before the first element of the list.
+     */
+    public Cursor cursor(){
+        return new Cursor();
+    }
+
+    /**
+     * Passes every entry, from the first to the last one, to the action. The traversal is weakly consistent.
+     * @param action  the action to be performed on each entry.
+     */
+    public void forEach(Consumer<? super E> action){
+        for(ConcurrentUnidirectionalLinkedListElement<E> e = nextLive(head); e != head; e = nextLive(e)){
+            action.accept(e.element);
+        }
+    }
+
+    /**
+     * A Cursor walks around the cyclic list: after the last element it goes on with the first one, skipping the
+     sentinel. It can insert after its element and remove it without any lock; it never fails because of concurrent
+     changes of the list.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    public class Cursor
+    {
+        // instance variables
+        private ConcurrentUnidirectionalLinkedListElement<E> before = head;    // the element the cursor came from
+        private ConcurrentUnidirectionalLinkedListElement<E> current = head;   // the element the cursor stands on
+
+        /**
+         * Creates a cursor standing before the first element.
+         */
+        private Cursor(){
+        }
+
+        /**
+         * Moves the cursor to the next element; from the last element it moves back to the first one.
+         * @return the entry stored in the element the cursor moved to.
+         */
+        public E next(){
+            ConcurrentUnidirectionalLinkedListElement<E> from = current, e = nextLive(current);
+            if(e == head){                                                      // wrapping around
+                from = head;
+                e = nextLive(head);
+                if(e == head) throw new NoSuchElementException();
+            }
+            before = from;
+            current = e;
+            return e.element;
+        }
+
+        /**
+         * @return the entry stored in the element the cursor stands on, even if it has been removed meanwhile.
+         */
+        public E get(){
+            return element().element;
+        }
+
+        /**
+         * Replaces the entry stored in the element the cursor stands on.
+         * @param o  the new entry.
+         */
+        public void set(E o){
+            element().element = o;
+        }
+
+        /**
+         * Inserts a new element right after the one the cursor stands on, the cursor does not move.
+         * @param o  the entry to be added.
+         * @throws IllegalStateException  if the element of the cursor has been removed.
+         */
+        public void insertAfter(E o){
+            if(!ConcurrentUnidirectionalLinkedList.this.insertAfter(element(), o)){
+                throw new IllegalStateException("the element of the cursor has been removed");
+            }
+        }
+
+        /**
+         * Removes the element the cursor stands on. The cursor keeps standing on it, next() moves on to its successor.
+         * @return true if this call removed it, false if it had already been removed.
+         */
+        public boolean remove(){
+            return ConcurrentUnidirectionalLinkedList.this.remove(before, element());
+        }
+
+        /**
+         * @return the element the cursor stands on.
+         */
+        private ConcurrentUnidirectionalLinkedListElement<E> element(){
+            if(current == head) throw new NoSuchElementException();
+            return current;
+        }
+    }
+
+    /**
+     * @return the String representation of the entries stored in the list in format "[ ob1.toString(), ob2.toString ... ]"
+     */
+    @Override
+    public String toString(){
+        StringBuilder ret = new StringBuilder("[ ");
+        for(ConcurrentUnidirectionalLinkedListElement<E> e = nextLive(head); e != head; ){
+            ret.append(e.element);
+            e = nextLive(e);
+            if(e != head) ret.append(", ");
+        }
+        return ret.append(" ]").toString();
+    }
+
+    /**
+     * Walks index elements from the first one.
+     * @param index  the index of the element, negative values are counted from the end of the list.
+     * @return the element at that index.
+     */
+    private ConcurrentUnidirectionalLinkedListElement<E> get(int index) throws ListIndexOutOfBoundsException{
+        if(index < 0) index += length.get();
+        if(index < 0) throw new ListIndexOutOfBoundsException();
+        ConcurrentUnidirectionalLinkedListElement<E> e = nextLive(head);
+        for(int i = 0; i < index && e != head; i++){
+            e = nextLive(e);
+        }
+        if(e == head) throw new ListIndexOutOfBoundsException();
+        return e;
+    }
+
+    /**
+     * Finds the first element after e that has not been removed, unlinking the removed ones it walks over.
+     * @param e  the element to start from.
+     * @return the next live element, or the sentinel if e was the last one.
+     */
+    private ConcurrentUnidirectionalLinkedListElement<E> nextLive(ConcurrentUnidirectionalLinkedListElement<E> e){
+        ConcurrentUnidirectionalLinkedListElement<E> curr = e.next.getReference();
+        while(curr != head){
+            if(!curr.isRemoved()) return curr;
+            ConcurrentUnidirectionalLinkedListElement<E> succ = curr.next.getReference();  // a marked link never changes
+            e.next.compareAndSet(curr, succ, false, false);                    // helping; fails harmlessly if e changed
+            curr = succ;
+        }
+        return head;
+    }
+
+    /**
+     * Links a new element storing o right after e.
+     * @param e  the element that will precede the new one.
+     * @param o  the entry to be stored.
+     * @return false if e has been removed, in which case nothing was added.
+     */
+    private boolean insertAfter(ConcurrentUnidirectionalLinkedListElement<E> e, E o){
+        ConcurrentUnidirectionalLinkedListElement<E> added = new ConcurrentUnidirectionalLinkedListElement<E>(o, head);
+        for(;;){
+            ConcurrentUnidirectionalLinkedListElement<E> succ = e.next.getReference();
+            if(e.isRemoved()) return false;
+            added.next.set(succ, false);
+            if(e.next.compareAndSet(succ, added, false, false)){
+                if(succ == head) tail.set(added);                               // appended at the end
+                length.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes e: its link is marked first, then the link of before is swung past it if before still links to it.
+     * Otherwise the unlinking is left to the next traversal.
+     * @param before  the element believed to precede e.
+     * @param e  the element to be removed.
+     * @return true if this call removed e, false if it had already been removed.
+     */
+    private boolean remove(ConcurrentUnidirectionalLinkedListElement<E> before, ConcurrentUnidirectionalLinkedListElement<E> e){
+        if(!e.markRemoved()) return false;
+        length.decrementAndGet();
+        before.next.compareAndSet(e, e.next.getReference(), false, false);
+        return true;
+    }
+
+    /**
+     * @return true if both objects are null or equal.
+     */
+    private static boolean equal(Object a, Object b){
+        return (a == null)? b == null : a.equals(b);
+    }
+}
@@ -0,0 +1,111 @@
+package anon.data_structures;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+
+/**
+ * An ElementCodec writes entries of type E to a DataOutput and reads them back from a DataInput. The lists use it to
+ stream themselves in a compact binary form, one entry after the other, with writeTo(OutputStream, ElementCodec) and
+ readFrom(InputStream, ElementCodec).
+ *
+ * Unlike a RecordCodec, the entries do not need a fixed width: read(DataInput) only has to consume exactly the bytes
+ written by write(E, DataOutput).
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public interface ElementCodec<E>
+{
+    /**
+     * Writes int entries in 4 bytes.
+     */
+    ElementCodec<Integer> INT = new ElementCodec<Integer>(){
+        public void write(Integer o, DataOutput out) throws IOException{ out.writeInt(o); }
+        public Integer read(DataInput in) throws IOException{ return in.readInt(); }
+    };
+
+    /**
+     * Writes long entries in 8 bytes.
+     */
+    ElementCodec<Long> LONG = new ElementCodec<Long>(){
+        public void write(Long o, DataOutput out) throws IOException{ out.writeLong(o); }
+        public Long read(DataInput in) throws IOException{ return in.readLong(); }
+    };
+
+    /**
+     * Writes double entries in 8 bytes.
+     */
+    ElementCodec<Double> DOUBLE = new ElementCodec<Double>(){
+        public void write(Double o, DataOutput out) throws IOException{ out.writeDouble(o); }
+        public Double read(DataInput in) throws IOException{ return in.readDouble(); }
+    };
+
+    /**
+     * Writes String entries, null included, as their length in bytes(-1 for null) followed by their chars in modified
+     UTF-8, the encoding of DataOutput.writeUTF(String): 1 byte per ASCII char, 2 or 3 bytes per other char. Every char is
+     encoded on its own, so any String round-trips exactly, even one holding unpaired surrogates(which
+     String.getBytes(UTF_8) would turn into '?'). Unlike DataOutput.writeUTF(String), strings of any length are accepted.
+     */
+    ElementCodec<String> STRING = new ElementCodec<String>(){
+        public void write(String o, DataOutput out) throws IOException{
+            if(o == null){
+                out.writeInt(-1);
+                return;
+            }
+            int n = o.length(), length = 0;
+            byte[] bytes = new byte[3*n];
+            for(int i = 0; i < n; i++){
+                char c = o.charAt(i);
+                if(c >= 0x01 && c <= 0x7F){
+                    bytes[length++] = (byte)c;
+                } else if(c <= 0x7FF){                              // '\u0000' too, so that no byte is 0
+                    bytes[length++] = (byte)(0xC0 | (c >> 6));
+                    bytes[length++] = (byte)(0x80 | (c & 0x3F));
+                } else{
+                    bytes[length++] = (byte)(0xE0 | (c >> 12));
+                    bytes[length++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+                    bytes[length++] = (byte)(0x80 | (c & 0x3F));
+                }
+            }
+            out.writeInt(length);
+            out.write(bytes, 0, length);
+        }
+        public String read(DataInput in) throws IOException{
+            int n = in.readInt();
+            if(n < 0) return null;
+            byte[] bytes = new byte[n];
+            in.readFully(bytes);
+            char[] chars = new char[n];
+            int length = 0;
+            for(int i = 0; i < n; ){
+                int b = bytes[i++] & 0xFF;
+                if(b < 0x80){
+                    chars[length++] = (char)b;
+                } else if((b & 0xE0) == 0xC0 && i < n){
+                    chars[length++] = (char)(((b & 0x1F) << 6) | (bytes[i++] & 0x3F));
+                } else if((b & 0xF0) == 0xE0 && i + 1 < n){
+                    chars[length++] = (char)(((b & 0x0F) << 12) | ((bytes[i++] & 0x3F) << 6) | (bytes[i++] & 0x3F));
+                } else{
+                    throw new UTFDataFormatException("malformed input around byte " + (i - 1));
+                }
+            }
+            return new String(chars, 0, length);
+        }
+    };
+
+    /**
+     * Writes the entry o.
+     * @param o  the entry to be written.
+     * @param out  the output.
+     */
+    void write(E o, DataOutput out) throws IOException;
+
+    /**
+     * Reads back an entry written by write(E, DataOutput).
+     * @param in  the input.
+     * @return the entry.
+     */
+    E read(DataInput in) throws IOException;
+}
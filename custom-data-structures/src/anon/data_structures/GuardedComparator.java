@@ -0,0 +1,47 @@
+package anon.data_structures;
+
+import java.util.Comparator;
+
+/**
+ * A Comparator used by the in-place sorts of the lists. It compares with the comparator it wraps, or by natural ordering
+ if there is none, and remembers the first exception thrown instead of passing it on: from then on every comparison
+ answers 0, so the sort still runs to its end and leaves every element linked, in some order. The sort throws the
+ exception once the list is consistent again, through rethrow().
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+final class GuardedComparator<T> implements Comparator<T>
+{
+    // instance variables
+    private final Comparator<? super T> comparator;             // null for natural ordering
+    private volatile Throwable failure;                         // the first exception thrown by a comparison
+
+    /**
+     * @param comparator  the comparator to be wrapped, null for natural ordering.
+     */
+    GuardedComparator(Comparator<? super T> comparator){
+        this.comparator = comparator;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int compare(T a, T b){
+        if(failure != null) return 0;
+        try{
+            return comparator == null ? ((Comparable<? super T>)a).compareTo(b) : comparator.compare(a, b);
+        } catch(RuntimeException | Error e){
+            failure = e;
+            return 0;
+        }
+    }
+
+    /**
+     * Throws the exception a comparison has thrown, if any.
+     */
+    void rethrow(){
+        Throwable t = failure;
+        if(t instanceof RuntimeException) throw (RuntimeException)t;
+        if(t instanceof Error) throw (Error)t;
+    }
+}
@@ -0,0 +1,312 @@
+package anon.data_structures;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This class defines a bidirectional, cyclic Linked-List just like BidirectionalLinkedList, but it additionally keeps
+ an indexable skip-list layer over the chain of elements so that positional access does not have to walk from the top.
+ *
+ * The elements are linked together exactly like those of a BidirectionalLinkedList(prev and next references, the last
+ element pointing back to the first one). On top of that every element carries a randomly chosen number of skip levels
+ and every skip reference remembers its span - the number of elements it jumps over.
+
+     level 2   header ---------------------------------(4)---------------------------------> e3
+     level 1   header ----------(2)----------> e1 ----------------(2)----------------------> e3 ----(1)----> e4
+     level 0   header -> e0 <-> e1 <-> e2 <-> e3 <-> e4 <-> ... (cyclic, tail.next = top)
+ *
+ * The position of an element is the sum of the spans followed to reach it, so getElement(int), setEntry(E, int),
+ add(E, int) and remove(int) run in expected O(log n) time and no element ever stores(or rewrites) its own index.
+ *
+ * Just like most other data-structures, the indexing begins from 0.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public class IndexedBidirectionalLinkedList<E>
+{
+    // class variables
+    private static final int MAX_LEVEL = 32;                            // enough for 2^32 elements with p = 1/2
+
+    // instance variables
+    private final IndexedBidirectionalLinkedListElement<E> header;      // entry point of the skip levels, holds no entry
+    private IndexedBidirectionalLinkedListElement<E> top, tail, pointing;   // first, last and currently pointing
+    private int level = 1;                                              // number of levels currently in use
+    private int length = 0;                                             // size of the list
+
+    /**
+     *          cell1            cell2             cell3            cell4
+     _______________________________________________________________________
+     |                  |             |                    |                 |
+     |   Reference to   |    E o      |    Reference to    |   skip levels   |
+     |     previous     |             |        next        |   (forward +    |
+     |      element     |             |      element       |      span)      |
+     |__________________|_____________|____________________|_________________|
+     *
+     * element stores the entry of type E. Level 0 is the plain bidirectional chain(prev and next), levels 1 and above
+     are stored in the forward and span arrays. Half of the elements only live on level 0 and get no arrays at all.
+     Unlike BidirectionalLinkedListElement, no index value is stored.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private static class IndexedBidirectionalLinkedListElement<E>
+    {
+        // instance variables
+        private E element;                                                  // stores the entry
+        private IndexedBidirectionalLinkedListElement<E> next, prev;        // references to the next and previous elements
+        private final IndexedBidirectionalLinkedListElement<E>[] forward;   // skip references, forward[0] is never used
+        private final int[] span;                                           // number of elements each skip reference jumps
+
+        /**
+         * Creates an element holding the entry o with the given number of levels.
+         * @param o  the element to be stored.
+         * @param levels  the number of levels of this element, 1 means that it only lives in the plain chain.
+         */
+        private IndexedBidirectionalLinkedListElement(E o, int levels){
+            element = o;
+            prev = this;                // cyclic; configured later by the list
+            next = this;
+            forward = (levels > 1)? elements(levels) : null;    // an element living on level 0 only needs no arrays
+            span = (levels > 1)? new int[levels] : null;
+        }
+
+        /**
+         * @return the String representation of the entry contained in the invoking Element.
+         */
+        @Override
+        public String toString(){
+            return String.valueOf(element);
+        }
+    }
+
+    /**
+     * The no-arg constructor to create an empty list.
+     */
+    public IndexedBidirectionalLinkedList(){
+        header = new IndexedBidirectionalLinkedListElement<E>(null, MAX_LEVEL);
+    }
+
+    /**
+     * This constructor creates a new list with only one element that is being passed as argument.
+     * @param o The element to be contained in the list.
+     */
+    public IndexedBidirectionalLinkedList(E o){
+        this();
+        add(o);
+    }
+
+    /**
+     * @return the number of elements in the list.
+     */
+    public int size(){
+        return length;
+    }
+
+    /**
+     * @param index  the index of the element to be retrieved.
+     * @return the entry contained at the element at the specified index.
+     */
+    public E getElement(int index) throws ListIndexOutOfBoundsException{
+        return get(index).element;
+    }
+
+    /**
+     * @param index  the index of the IndexedBidirectionalLinkedListElement<E> to be retrieved, negative values are
+    counted from the end of the list.
+     * @return the IndexedBidirectionalLinkedListElement<E> at the specified index.
+     * If you want to get the entry E at the specifiedIndex, use getElement(int) method instead.
+     */
+    public IndexedBidirectionalLinkedListElement<E> get(int index) throws ListIndexOutOfBoundsException{
+        return find(checkIndex(index) + 1, null, null);
+    }
+
+    /**
+     * This method adds an element at the end of the list.
+     * @param o  the entry to be added to the new element.
+     */
+    public void add(E o){
+        insert(o, length);
+    }
+
+    /**
+     * This method adds a new element in the MIDDLE(not the end) of the list such that the new element has <index> = index
+     * @param index  the index value of the new element.
+     * @param o  entry to be contained in the new element
+     */
+    public void add(E o, int index) throws ListIndexOutOfBoundsException{
+        insert(o, checkIndex(index));
+    }
+
+    /**
+     * Removes the element at index <index> in the list.
+     * @param index  the index of the element which has to be removed.
+     */
+    public void remove(int index) throws ListIndexOutOfBoundsException{
+        index = checkIndex(index);
+        IndexedBidirectionalLinkedListElement<E>[] update = elements(level);
+        IndexedBidirectionalLinkedListElement<E> before = find(index, update, null);   // the element preceding it
+        IndexedBidirectionalLinkedListElement<E> e = (before == header)? top : before.next;
+        for(int i = 1; i < level; i++){                         // unlinking it from the skip levels
+            if(update[i].forward[i] == e){
+                update[i].span[i] += e.span[i] - 1;
+                update[i].forward[i] = e.forward[i];
+            } else{
+                update[i].span[i]--;
+            }
+        }
+        while(level > 1 && header.forward[level - 1] == null){ // dropping the levels that became empty
+            level--;
+        }
+        if(length == 1){                                        // the list is empty now
+            top = null;
+            tail = null;
+            pointing = null;
+        } else{
+            e.prev.next = e.next;                               // unlinking it from the plain chain
+            e.next.prev = e.prev;
+            if(e == top) top = e.next;
+            if(e == tail) tail = e.prev;
+            if(e == pointing) pointing = e.next;
+        }
+        length--;
+    }
+
+    /**
+     * This method updates the entry in the element at index <index> and sets it to the passed argument.
+     * @param o  the new entry
+     * @param index  the index of the element to be updated
+     */
+    public void setEntry(E o, int index) throws ListIndexOutOfBoundsException{
+        get(index).element = o;
+    }
+
+    /**
+     * @return the reference to the previous element while updating the pointer.
+     */
+    public IndexedBidirectionalLinkedListElement<E> prev(){
+        pointing = pointing.prev;
+        return pointing;
+    }
+
+    /**
+     * @return the reference to the next element while updating the pointer.
+     */
+    public IndexedBidirectionalLinkedListElement<E> next(){
+        pointing = pointing.next;
+        return pointing;
+    }
+
+    /**
+     * @return the String representation of the entries stored in the list in format "[ ob1.toString(), ob2.toString ... ]"
+     */
+    @Override
+    public String toString(){
+        StringBuilder ret = new StringBuilder("[ ");
+        IndexedBidirectionalLinkedListElement<E> e = top;
+        for(int i = 0; i < length; i++){                        // a single walk over the plain chain
+            if(i > 0) ret.append(", ");
+            ret.append(e);
+            e = e.next;
+        }
+        return ret.append(" ]").toString();
+    }
+
+    /**
+     * Validates an index the same way BidirectionalLinkedList does: indices below length are accepted and negative
+     values are counted from the end of the list.
+     * @param index  the index passed by the user.
+     * @return the index normalized into the range [0, length).
+     */
+    private int checkIndex(int index) throws ListIndexOutOfBoundsException{
+        if(index >= length || index < -length) throw new ListIndexOutOfBoundsException();
+        return (index + length)%length;
+    }
+
+    /**
+     * Descends the skip levels until the element with the given rank(index + 1, the header having rank 0) is reached.
+     * @param rank  the rank of the wanted element.
+     * @param update  if not null, receives the last element visited on every level above 0.
+     * @param ranks  if not null, receives the rank of the elements stored in update.
+     * @return the element having that rank.
+     */
+    private IndexedBidirectionalLinkedListElement<E> find(int rank,
+                                                          IndexedBidirectionalLinkedListElement<E>[] update, int[] ranks){
+        IndexedBidirectionalLinkedListElement<E> x = header;
+        int traversed = 0;
+        for(int i = level - 1; i >= 1; i--){
+            while(x.forward[i] != null && traversed + x.span[i] <= rank){
+                traversed += x.span[i];
+                x = x.forward[i];
+            }
+            if(update != null) update[i] = x;
+            if(ranks != null) ranks[i] = traversed;
+        }
+        while(traversed < rank){                                // the last few steps on the plain chain
+            x = (x == header)? top : x.next;
+            traversed++;
+        }
+        return x;
+    }
+
+    /**
+     * Creates a new element holding o so that it ends up at the given index.
+     * @param o  the entry to be added.
+     * @param index  the index of the new element, length appends it at the end.
+     */
+    private void insert(E o, int index){
+        int levels = randomLevel();
+        IndexedBidirectionalLinkedListElement<E>[] update = elements(Math.max(level, levels));
+        int[] ranks = new int[update.length];
+        IndexedBidirectionalLinkedListElement<E> before = find(index, update, ranks);  // the element that will precede it
+        for(int i = level; i < levels; i++){                    // new levels start at the header
+            update[i] = header;
+            ranks[i] = 0;
+            header.forward[i] = null;
+        }
+        if(levels > level) level = levels;
+
+        IndexedBidirectionalLinkedListElement<E> e = new IndexedBidirectionalLinkedListElement<E>(o, levels);
+        for(int i = 1; i < level; i++){
+            if(i < levels){                                     // linking it in the skip levels it takes part in
+                e.forward[i] = update[i].forward[i];
+                e.span[i] = update[i].span[i] - (index - ranks[i]);
+                update[i].forward[i] = e;
+                update[i].span[i] = index - ranks[i] + 1;
+            } else if(update[i].forward[i] != null){            // jumping over it in the levels above
+                update[i].span[i]++;
+            }
+        }
+
+        if(length == 0){                                        // linking it in the plain chain
+            top = e;
+            tail = e;
+            pointing = e;
+        } else{
+            IndexedBidirectionalLinkedListElement<E> after = (before == header)? top : before.next;
+            e.prev = after.prev;
+            e.next = after;
+            after.prev.next = e;
+            after.prev = e;
+            if(index == 0) top = e;
+            if(index == length) tail = e;
+        }
+        length++;
+    }
+
+    /**
+     * @return a level between 1 and MAX_LEVEL, each additional level being taken with probability 1/2.
+     */
+    private static int randomLevel(){
+        int levels = Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1))) + 1;
+        return Math.min(levels, MAX_LEVEL);
+    }
+
+    /**
+     * @param n  the length of the array.
+     * @return a new array of n references to elements, all null.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <E> IndexedBidirectionalLinkedListElement<E>[] elements(int n){
+        return new IndexedBidirectionalLinkedListElement[n];          // generic arrays can only be created raw
+    }
+}
@@ -0,0 +1,242 @@
+package anon.data_structures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+// Generated from templates/PrimitiveBidirectionalLinkedList.template by templates/generate-primitive-lists.sh - do not edit.
+
+/**
+ * This class defines a bidirectional, cyclic Linked-List of int values. It behaves just like
+ BidirectionalLinkedList<Integer> but never boxes its entries: the elements are slots of three parallel arrays.
+     ___________________________________________________________________________
+     | slot      |   0   |   1   |   2   |   3   |  ...  |   capacity - 1       |
+     |-----------|-------|-------|-------|-------|-------|----------------------|
+     | values    |  v0   |  v2   |  v1   |   -   |  ...  |                      |
+     | next      |   2   |   0   |   1   |   -   |  ...  |  <-- cyclic links    |
+     | prev      |   1   |   2   |   0   |   -   |  ...  |      between slots   |
+     |___________|_______|_______|_______|_______|_______|______________________|
+ *
+ * An element therefore costs sizeof(int) + 8 bytes instead of an element object plus a boxed entry. Unused slots
+ are chained together through the next array and reused by later additions.
+ *
+ * Just like most other data-structures, the indexing begins from 0.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public class IntBidirectionalLinkedList
+{
+    // class variables
+    private static final int DEFAULT_CAPACITY = 16;         // number of slots of a list created without a capacity
+    private static final int NONE = -1;                     // stands for a missing slot
+
+    // instance variables
+    private int[] values;                                  // entries, indexed by slot
+    private int[] next, prev;                               // slots of the next and previous elements
+    private int top = NONE, tail = NONE, pointing = NONE;   // first, last and currently pointing slot
+    private int free = NONE;                                // first unused slot below used, chained through next
+    private int used = 0;                                   // slots at and above this one have never been used
+    private int length = 0;                                 // size of the list
+
+    /**
+     * The no-arg constructor to create an empty list.
+     */
+    public IntBidirectionalLinkedList(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list with room for initialCapacity elements before its arrays have to grow.
+     * @param initialCapacity  the initial number of slots.
+     */
+    public IntBidirectionalLinkedList(int initialCapacity){
+        if(initialCapacity < 1) throw new IllegalArgumentException("initialCapacity must be positive");
+        values = new int[initialCapacity];
+        next = new int[initialCapacity];
+        prev = new int[initialCapacity];
+    }
+
+    /**
+     * @return the number of elements in the list.
+     */
+    public int size(){
+        return length;
+    }
+
+    /**
+     * @param index  the index of the element to be retrieved.
+     * @return the entry contained at the element at the specified index.
+     */
+    public int getInt(int index) throws ListIndexOutOfBoundsException{
+        return values[slot(index)];
+    }
+
+    /**
+     * This method adds an element at the end of the list.
+     * @param o  the entry to be added to the new element.
+     */
+    public void add(int o){
+        int s = allocate(o);
+        if(length == 0){                        // if the list is empty, a different approach is needed
+            top = s;
+            pointing = s;
+            next[s] = s;
+            prev[s] = s;
+        } else{
+            link(s, tail);
+        }
+        tail = s;
+        length++;                               // Updating the length.
+    }
+
+    /**
+     * This method adds a new element in the MIDDLE(not the end) of the list such that the new element has <index> = index
+     * @param index  the index value of the new element.
+     * @param o  entry to be contained in the new element
+     */
+    public void add(int o, int index) throws ListIndexOutOfBoundsException{
+        int curr = slot(index);
+        int s = allocate(o);
+        link(s, prev[curr]);
+        if(curr == top) top = s;
+        length++;                               // updating the size
+    }
+
+    /**
+     * Removes the element at index <index> in the list.
+     * @param index  the index of the element which has to be removed.
+     */
+    public void remove(int index) throws ListIndexOutOfBoundsException{
+        int s = slot(index);
+        if(length == 1){                        // the list gets empty
+            top = NONE;
+            tail = NONE;
+            pointing = NONE;
+        } else{
+            next[prev[s]] = next[s];            // removing it from reference
+            prev[next[s]] = prev[s];
+            if(s == top) top = next[s];
+            if(s == tail) tail = prev[s];
+            if(s == pointing) pointing = next[s];
+        }
+        next[s] = free;                         // the slot can be reused
+        free = s;
+        length--;                               // updating size
+    }
+
+    /**
+     * This method updates the entry in the element at index <index> and sets it to the passed argument.
+     * @param o  the new entry
+     * @param index  the index of the element to be updated
+     */
+    public void setEntry(int o, int index) throws ListIndexOutOfBoundsException{
+        values[slot(index)] = o;
+    }
+
+    /**
+     * @return the entry of the previous element while updating the pointer.
+     */
+    public int prev(){
+        if(length == 0) throw new NoSuchElementException();
+        pointing = prev[pointing];
+        return values[pointing];
+    }
+
+    /**
+     * @return the entry of the next element while updating the pointer.
+     */
+    public int next(){
+        if(length == 0) throw new NoSuchElementException();
+        pointing = next[pointing];
+        return values[pointing];
+    }
+
+    /**
+     * Passes every entry, from the first to the last one, to the action.
+     * @param action  the action to be performed on each entry.
+     */
+    public void forEachInt(IntConsumer action){
+        for(int i = 0, s = top; i < length; i++, s = next[s]){
+            action.accept(values[s]);
+        }
+    }
+
+    /**
+     * @return a new array holding the entries of the list in their order.
+     */
+    public int[] toIntArray(){
+        int[] ret = new int[length];
+        for(int i = 0, s = top; i < length; i++, s = next[s]){
+            ret[i] = values[s];
+        }
+        return ret;
+    }
+
+    /**
+     * @return the String representation of the entries stored in the list in format "[ ob1.toString(), ob2.toString ... ]"
+     */
+    @Override
+    public String toString(){
+        StringBuilder ret = new StringBuilder("[ ");
+        for(int i = 0, s = top; i < length; i++, s = next[s]){
+            if(i > 0) ret.append(", ");
+            ret.append(values[s]);
+        }
+        return ret.append(" ]").toString();
+    }
+
+    /**
+     * Finds the slot of the element at the given index, walking from whichever end of the list is closer.
+     * @param index  the index of the element, negative values are counted from the end of the list.
+     * @return the slot of that element.
+     */
+    private int slot(int index) throws ListIndexOutOfBoundsException{
+        if(index >= length || index < -length) throw new ListIndexOutOfBoundsException();
+        index = (index + length)%length;
+        int s;
+        if(index <= length/2){
+            s = top;
+            for(int i = 0; i < index; i++) s = next[s];
+        } else{
+            s = tail;
+            for(int i = length - 1; i > index; i--) s = prev[s];
+        }
+        return s;
+    }
+
+    /**
+     * Takes an unused slot, growing the arrays if there is none left, and stores o in it.
+     * @param o  the entry to be stored.
+     * @return the slot.
+     */
+    private int allocate(int o){
+        int s;
+        if(free != NONE){                       // reusing a slot freed by remove(int)
+            s = free;
+            free = next[s];
+        } else{
+            if(used == values.length){
+                int capacity = values.length + (values.length >> 1) + 1;
+                values = Arrays.copyOf(values, capacity);
+                next = Arrays.copyOf(next, capacity);
+                prev = Arrays.copyOf(prev, capacity);
+            }
+            s = used++;
+        }
+        values[s] = o;
+        return s;
+    }
+
+    /**
+     * Links the slot s right after the slot before.
+     * @param s  the slot to be linked.
+     * @param before  the slot that will precede it.
+     */
+    private void link(int s, int before){
+        prev[s] = before;
+        next[s] = next[before];
+        prev[next[before]] = s;
+        next[before] = s;
+    }
+}
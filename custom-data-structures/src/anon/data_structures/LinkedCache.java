@@ -0,0 +1,331 @@
+package anon.data_structures;
+
+import java.util.HashMap;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * This class defines a bounded in-memory cache. A HashMap finds the entry of a key in O(1), and one of the cyclic
+ lists of this package keeps the entries in the order the eviction policy needs:
+ *
+ * - Policy.LRU keeps the entries in a BidirectionalLinkedList, the most recently used one first. A hit moves the
+ element of the entry to the front of the list in O(1) and the least recently used entry, the last one, is evicted.
+ *
+ * - Policy.CLOCK(second chance) keeps the entries in a UnidirectionalLinkedList whose Cursor is the hand of the clock.
+ A hit only sets the referenced bit of the entry, so reads never touch the list. To evict, the hand moves around the
+ cycle clearing the bits it finds set and removes the first entry whose bit was already clear. New entries are
+ inserted right behind the hand. Entries removed by remove(K) are only marked and are unlinked when the hand reaches
+ them.
+ *
+ * The cache is bounded by a total weight: every entry weighs 1 unless a weigher is given, in which case the bound is
+ a weight rather than a number of entries. Evicted entries are passed to the eviction listener, if there is one, and
+ hits(), misses() and evictions() count what happened since the cache was created.
+ *
+ * Just like the lists it is built on, this class is not thread-safe.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public class LinkedCache<K, V>
+{
+    /**
+     * The eviction policies a LinkedCache can follow.
+     */
+    public enum Policy
+    {
+        LRU, CLOCK
+    }
+
+    // instance variables
+    private final Policy policy;                                                    // the eviction policy
+    private final long maximumWeight;                                               // bound of the total weight
+    private final ToIntBiFunction<? super K, ? super V> weigher;                    // weight of an entry, null if every entry weighs 1
+    private final BiConsumer<? super K, ? super V> listener;                        // told about evictions, may be null
+    private final HashMap<K, LinkedCacheEntry<K, V>> index = new HashMap<K, LinkedCacheEntry<K, V>>();    // entry of every key
+    private final BidirectionalLinkedList<LinkedCacheEntry<K, V>> recency;          // LRU: most recently used first
+    private final UnidirectionalLinkedList<LinkedCacheEntry<K, V>> clock;           // CLOCK: the entries around the dial
+    private final UnidirectionalLinkedList<LinkedCacheEntry<K, V>>.Cursor hand;     // CLOCK: the hand
+    private long weight = 0;                                                        // total weight of the entries
+    private int dead = 0;                                                           // CLOCK: removed entries still on the dial
+    private long hits = 0, misses = 0, evictions = 0;                               // counters
+
+    /**
+     * Holds a key, its value and what the policy needs to know about them.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private static class LinkedCacheEntry<K, V>
+    {
+        // instance variables
+        private final K key;
+        private V value;
+        private int weight;
+        private boolean referenced;                                                 // CLOCK: used since the hand last passed
+        private boolean removed;                                                    // CLOCK: waiting for the hand to unlink it
+        private BidirectionalLinkedList.BidirectionalLinkedListElement<LinkedCacheEntry<K, V>> element;    // LRU: its element
+
+        /**
+         * Creates an entry.
+         * @param key  the key.
+         * @param value  the value.
+         * @param weight  the weight of the pair.
+         */
+        private LinkedCacheEntry(K key, V value, int weight){
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Creates a cache holding at most maximumSize entries.
+     * @param policy  the eviction policy.
+     * @param maximumSize  the largest number of entries.
+     */
+    public LinkedCache(Policy policy, long maximumSize){
+        this(policy, maximumSize, null, null);
+    }
+
+    /**
+     * Creates a cache whose entries weigh at most maximumWeight in total.
+     * @param policy  the eviction policy.
+     * @param maximumWeight  the largest total weight.
+     * @param weigher  gives the weight of a key and its value, which must not be negative; null if every entry weighs 1.
+     * @param listener  receives the key and the value of every evicted entry, may be null.
+     */
+    public LinkedCache(Policy policy, long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher,
+                       BiConsumer<? super K, ? super V> listener){
+        if(policy == null) throw new NullPointerException("policy");
+        if(maximumWeight < 0) throw new IllegalArgumentException("maximumWeight must not be negative");
+        this.policy = policy;
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.listener = listener;
+        if(policy == Policy.LRU){
+            recency = new BidirectionalLinkedList<LinkedCacheEntry<K, V>>();
+            clock = null;
+            hand = null;
+        } else{
+            recency = null;
+            clock = new UnidirectionalLinkedList<LinkedCacheEntry<K, V>>();
+            hand = clock.cursor();
+        }
+    }
+
+    /**
+     * Looks a key up, counting a hit or a miss.
+     * @param key  the key.
+     * @return the value of the key, null if it is not cached.
+     */
+    public V get(K key){
+        LinkedCacheEntry<K, V> e = index.get(key);
+        if(e == null){
+            misses++;
+            return null;
+        }
+        hits++;
+        touch(e);
+        return e.value;
+    }
+
+    /**
+     * Caches a value for a key, replacing the value it had, then evicts entries until the total weight is within the
+     bound again. A pair heavier than the bound is never cached: it is evicted right away, and only it, while the value
+     the key had is removed and the other entries stay.
+     * @param key  the key.
+     * @param value  the value.
+     * @return the value the key had, null if it was not cached.
+     */
+    public V put(K key, V value){
+        int w = weigh(key, value);
+        if(w > maximumWeight){                                                      // evicting the others would not help
+            V ret = remove(key);
+            evictions++;
+            if(listener != null) listener.accept(key, value);
+            return ret;
+        }
+        LinkedCacheEntry<K, V> e = index.get(key);
+        V ret = null;
+        if(e != null){
+            ret = e.value;
+            weight += w - e.weight;
+            e.value = value;
+            e.weight = w;
+            touch(e);
+        } else{
+            e = new LinkedCacheEntry<K, V>(key, value, w);
+            index.put(key, e);
+            weight += w;
+            if(policy == Policy.LRU){
+                e.element = recency.linkFirst(e);
+            } else{
+                hand.insertBefore(e);                                               // the last entry the hand will reach
+            }
+        }
+        while(weight > maximumWeight) evict();
+        return ret;
+    }
+
+    /**
+     * Removes a key from the cache; this is not counted as an eviction.
+     * @param key  the key.
+     * @return the value the key had, null if it was not cached.
+     */
+    public V remove(K key){
+        LinkedCacheEntry<K, V> e = index.remove(key);
+        if(e == null) return null;
+        V ret = e.value;
+        weight -= e.weight;
+        if(policy == Policy.LRU){
+            recency.unlink(e.element);
+        } else{
+            e.removed = true;                                                       // the hand unlinks it later
+            e.value = null;
+            if(++dead > index.size()) sweep();                                      // the dial is mostly dead entries
+        }
+        return ret;
+    }
+
+    /**
+     * @param key  the key.
+     * @return true if the key is cached. This is neither a hit nor a miss, and does not count as a use of the entry.
+     */
+    public boolean containsKey(K key){
+        return index.containsKey(key);
+    }
+
+    /**
+     * Removes every entry; this is not counted as evictions.
+     */
+    public void clear(){
+        index.clear();
+        weight = 0;
+        dead = 0;
+        if(policy == Policy.LRU){
+            recency.clear();
+        } else{
+            while(clock.size() > 0) hand.remove();
+        }
+    }
+
+    /**
+     * @return the number of entries.
+     */
+    public int size(){
+        return index.size();
+    }
+
+    /**
+     * @return the total weight of the entries.
+     */
+    public long weight(){
+        return weight;
+    }
+
+    /**
+     * @return the eviction policy.
+     */
+    public Policy policy(){
+        return policy;
+    }
+
+    /**
+     * @return the number of get(K) calls that found their key.
+     */
+    public long hits(){
+        return hits;
+    }
+
+    /**
+     * @return the number of get(K) calls that did not find their key.
+     */
+    public long misses(){
+        return misses;
+    }
+
+    /**
+     * @return the number of entries evicted to respect the bound.
+     */
+    public long evictions(){
+        return evictions;
+    }
+
+    /**
+     * @return the String representation of the cache in format "[ key1=value1, key2=value2 ... ]", in LRU order from
+     the most recently used entry, in CLOCK order around the dial.
+     */
+    @Override
+    public String toString(){
+        StringBuilder ret = new StringBuilder("[ ");
+        boolean first = true;
+        for(LinkedCacheEntry<K, V> e : policy == Policy.LRU ? recency : clock){
+            if(e.removed) continue;
+            if(!first) ret.append(", ");
+            ret.append(e.key).append('=').append(e.value);
+            first = false;
+        }
+        return ret.append(" ]").toString();
+    }
+
+    /**
+     * Records a use of an entry.
+     * @param e  the entry.
+     */
+    private void touch(LinkedCacheEntry<K, V> e){
+        if(policy == Policy.LRU) recency.moveToFront(e.element);
+        else e.referenced = true;
+    }
+
+    /**
+     * Evicts one entry, chosen by the policy, and tells the listener.
+     */
+    private void evict(){
+        LinkedCacheEntry<K, V> e;
+        if(policy == Policy.LRU){
+            e = recency.lastEntry();
+            recency.unlink(e.element);
+        } else{
+            while(true){                                                            // at most two turns of the hand
+                e = hand.get();
+                if(e.removed){
+                    hand.remove();
+                    dead--;
+                } else if(e.referenced){
+                    e.referenced = false;                                           // second chance
+                    hand.next();
+                } else{
+                    hand.remove();
+                    break;
+                }
+            }
+        }
+        index.remove(e.key);
+        weight -= e.weight;
+        evictions++;
+        if(listener != null) listener.accept(e.key, e.value);
+    }
+
+    /**
+     * CLOCK: walks the hand once around the dial, unlinking every removed entry. The bits of the others are left alone.
+     */
+    private void sweep(){
+        for(int i = clock.size(); i > 0; i--){
+            if(hand.get().removed) hand.remove();
+            else hand.next();
+        }
+        dead = 0;
+    }
+
+    /**
+     * @param key  the key.
+     * @param value  its value.
+     * @return the weight of the pair.
+     */
+    private int weigh(K key, V value){
+        if(weigher == null) return 1;
+        int w = weigher.applyAsInt(key, value);
+        if(w < 0) throw new IllegalArgumentException("negative weight " + w + " for " + key);
+        return w;
+    }
+}
@@ -0,0 +1,271 @@
+package anon.data_structures;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A LinkedListView is a read-only, lazy sequence over the elements of a list. Nothing is copied when a view is created:
+ subList(int, int) of BidirectionalLinkedList and UnidirectionalLinkedList returns a view bounded by the first and the
+ last of its elements, and map(Function), filter(Predicate) and limit(long) return views that only record what to do.
+ *
+ * The work happens when the view is traversed, and however many views are chained, the elements are walked in a single
+ pass: each entry runs through the whole chain of transformations before the next element is even reached, and limit(long)
+ stops the walk as soon as enough entries came through. No intermediate list is built.
+
+     list.subList(1000, 2000).filter(x -> x%2 == 0).map(x -> x*x).limit(10).forEach(System.out::println);
+
+     element 1000 --> filter --> map --> limit --> println
+     element 1001 --> filter(dropped)
+     ...                                    (stops after the 10th entry)
+ *
+ * A view reads the list it was taken from, so it sees the entries replaced in that list since it was created. A view
+ over a list that was structurally modified since(elements added or removed by anything) fails fast with a
+ ConcurrentModificationException when it is traversed.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public abstract class LinkedListView<E> implements Iterable<E>
+{
+    /**
+     * Passes the entries, in order, to the action until it returns false.
+     * @param action  the action to be performed on each entry, returning false to stop.
+     * @return false if the action stopped the traversal, true if every entry was passed.
+     */
+    public abstract boolean forEachWhile(Predicate<? super E> action);
+
+    /**
+     * @return an iterator over the entries, computed as they are asked for.
+     */
+    @Override
+    public abstract Iterator<E> iterator();
+
+    /**
+     * @param action  the action to be performed on each entry, in order.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action){
+        forEachWhile(o -> {
+            action.accept(o);
+            return true;
+        });
+    }
+
+    /**
+     * @param mapper  the function applied to every entry during the traversal.
+     * @return a view of the results of mapper on the entries of this view.
+     */
+    public <R> LinkedListView<R> map(Function<? super E, ? extends R> mapper){
+        return new MappedView<E, R>(this, mapper);
+    }
+
+    /**
+     * @param predicate  the test run on every entry during the traversal.
+     * @return a view of the entries of this view passing the predicate.
+     */
+    public LinkedListView<E> filter(Predicate<? super E> predicate){
+        return new FilteredView<E>(this, predicate);
+    }
+
+    /**
+     * @param maxSize  the most entries to be kept.
+     * @return a view of the first maxSize entries of this view; traversing it walks no further than needed.
+     */
+    public LinkedListView<E> limit(long maxSize){
+        if(maxSize < 0) throw new IllegalArgumentException("maxSize must not be negative");
+        return new LimitedView<E>(this, maxSize);
+    }
+
+    /**
+     * @return the number of entries, counted by traversing the view.
+     */
+    public long count(){
+        long[] n = new long[1];
+        forEachWhile(o -> {
+            n[0]++;
+            return true;
+        });
+        return n[0];
+    }
+
+    /**
+     * @return a new BidirectionalLinkedList holding the entries of the view, built in a single pass.
+     */
+    public BidirectionalLinkedList<E> toBidirectionalLinkedList(){
+        BidirectionalLinkedList<E> ret = new BidirectionalLinkedList<E>();
+        ret.addAll(this);
+        return ret;
+    }
+
+    /**
+     * @return a new UnidirectionalLinkedList holding the entries of the view, built in a single pass.
+     */
+    public UnidirectionalLinkedList<E> toUnidirectionalLinkedList(){
+        UnidirectionalLinkedList<E> ret = new UnidirectionalLinkedList<E>();
+        ret.addAll(this);
+        return ret;
+    }
+
+    /**
+     * @return the String representation of the entries of the view in format "[ ob1.toString(), ob2.toString ... ]"
+     */
+    @Override
+    public String toString(){
+        StringBuilder ret = new StringBuilder("[ ");
+        boolean first = true;
+        for(E o : this){
+            if(!first) ret.append(", ");
+            ret.append(String.valueOf(o));
+            first = false;
+        }
+        return ret.append(" ]").toString();
+    }
+
+    /**
+     * The view returned by map(Function).
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private static final class MappedView<E, R> extends LinkedListView<R>
+    {
+        // instance variables
+        private final LinkedListView<E> source;                     // the view mapped
+        private final Function<? super E, ? extends R> mapper;      // applied to every entry
+
+        private MappedView(LinkedListView<E> source, Function<? super E, ? extends R> mapper){
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean forEachWhile(Predicate<? super R> action){
+            return source.forEachWhile(o -> action.test(mapper.apply(o)));
+        }
+
+        @Override
+        public Iterator<R> iterator(){
+            Iterator<E> it = source.iterator();
+            return new Iterator<R>(){
+                @Override
+                public boolean hasNext(){
+                    return it.hasNext();
+                }
+
+                @Override
+                public R next(){
+                    return mapper.apply(it.next());
+                }
+            };
+        }
+    }
+
+    /**
+     * The view returned by filter(Predicate).
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private static final class FilteredView<E> extends LinkedListView<E>
+    {
+        // instance variables
+        private final LinkedListView<E> source;                     // the view filtered
+        private final Predicate<? super E> predicate;               // the entries passing it are kept
+
+        private FilteredView(LinkedListView<E> source, Predicate<? super E> predicate){
+            this.source = source;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean forEachWhile(Predicate<? super E> action){
+            return source.forEachWhile(o -> !predicate.test(o) || action.test(o));
+        }
+
+        @Override
+        public Iterator<E> iterator(){
+            Iterator<E> it = source.iterator();
+            return new Iterator<E>(){
+                private E next;                                     // the next entry kept, when found is true
+                private boolean found;                              // true if next holds an entry not returned yet
+
+                @Override
+                public boolean hasNext(){
+                    while(!found && it.hasNext()){
+                        E o = it.next();
+                        if(predicate.test(o)){
+                            next = o;
+                            found = true;
+                        }
+                    }
+                    return found;
+                }
+
+                @Override
+                public E next(){
+                    if(!hasNext()) throw new NoSuchElementException();
+                    found = false;
+                    E o = next;
+                    next = null;
+                    return o;
+                }
+            };
+        }
+    }
+
+    /**
+     * The view returned by limit(long).
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private static final class LimitedView<E> extends LinkedListView<E>
+    {
+        // instance variables
+        private final LinkedListView<E> source;                     // the view limited
+        private final long maxSize;                                 // the most entries kept
+
+        private LimitedView(LinkedListView<E> source, long maxSize){
+            this.source = source;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public boolean forEachWhile(Predicate<? super E> action){
+            if(maxSize == 0) return true;
+            long[] left = {maxSize};
+            boolean[] stopped = new boolean[1];
+            source.forEachWhile(o -> {
+                if(!action.test(o)){
+                    stopped[0] = true;
+                    return false;
+                }
+                return --left[0] > 0;                               // the limit stops the walk, not the action
+            });
+            return !stopped[0];
+        }
+
+        @Override
+        public Iterator<E> iterator(){
+            Iterator<E> it = source.iterator();
+            return new Iterator<E>(){
+                private long left = maxSize;                        // entries that may still be returned
+
+                @Override
+                public boolean hasNext(){
+                    return left > 0 && it.hasNext();
+                }
+
+                @Override
+                public E next(){
+                    if(left <= 0) throw new NoSuchElementException();
+                    left--;
+                    return it.next();
+                }
+            };
+        }
+    }
+}
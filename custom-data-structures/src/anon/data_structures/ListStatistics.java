@@ -0,0 +1,202 @@
+package anon.data_structures;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * This class counts what the operations of a list class cost: how often each one is called, how many elements it walks
+ over and how long it takes, as a histogram of powers of two nanoseconds. It also counts the elements created and those
+ taken from a pool, and commits a SlowListOperationEvent to JFR for every operation that takes at least a threshold.
+ *
+ * The statistics are off unless the JVM is started with -Danon.data_structures.statistics=true. The switch is the
+ static final ENABLED, so when it is off the JIT compiler removes the instrumentation from the lists altogether: the
+ lists then neither read the clock nor allocate anything for it. When it is on, every list class has one instance shared
+ by all its lists, registered as the MXBean anon.data_structures:type=ListStatistics,name=<class>. The slow threshold
+ defaults to 1 ms and can be set with -Danon.data_structures.statistics.slowNanos=<nanos> or over JMX.
+ *
+ * The counters are LongAdders, so lists used by different threads do not contend on them.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public final class ListStatistics implements ListStatisticsMXBean
+{
+    // class variables
+    public static final boolean ENABLED = Boolean.getBoolean("anon.data_structures.statistics");  // the switch
+    private static final int BUCKETS = 40;                      // the last bucket holds every call from 2^38 ns on
+
+    /**
+     * The operations that are measured.
+     */
+    enum Operation
+    {
+        GET, SET, INSERT, REMOVE, TO_STRING
+    }
+
+    // instance variables
+    private final String list;                                  // simple name of the list class
+    private final LongAdder[] operations = adders(Operation.values().length);
+    private final LongAdder[] traversed = adders(Operation.values().length);
+    private final LongAdder[][] latency = new LongAdder[Operation.values().length][];
+    private final LongAdder allocated = new LongAdder(), recycled = new LongAdder(), slow = new LongAdder();
+    private volatile long slowThresholdNanos = Long.getLong("anon.data_structures.statistics.slowNanos", 1_000_000L);
+
+    /**
+     * @param list  simple name of the list class.
+     */
+    private ListStatistics(String list){
+        this.list = list;
+        for(int i = 0; i < latency.length; i++) latency[i] = adders(BUCKETS);
+    }
+
+    /**
+     * Creates the statistics of a list class and registers them as an MXBean. If the registration fails, e.g. because
+     the class was loaded twice, the statistics are still kept but only visible to the caller.
+     * @param list  simple name of the list class.
+     * @return the statistics, null if ENABLED is false.
+     */
+    static ListStatistics register(String list){
+        if(!ENABLED) return null;
+        ListStatistics statistics = new ListStatistics(list);
+        try{
+            ObjectName name = new ObjectName("anon.data_structures:type=ListStatistics,name=" + list);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(statistics, name);
+        } catch(JMException e){
+            // left unregistered
+        }
+        return statistics;
+    }
+
+    /**
+     * Records a completed operation.
+     * @param op  the operation.
+     * @param start  the value of System.nanoTime() when it began.
+     * @param nodes  the number of elements it walked over.
+     * @param size  the number of elements in the list.
+     */
+    void record(Operation op, long start, long nodes, int size){
+        long nanos = System.nanoTime() - start;
+        int o = op.ordinal();
+        operations[o].increment();
+        traversed[o].add(nodes);
+        latency[o][Math.min(64 - Long.numberOfLeadingZeros(nanos), BUCKETS - 1)].increment();
+        if(nanos >= slowThresholdNanos){
+            slow.increment();
+            SlowListOperationEvent event = new SlowListOperationEvent();
+            if(event.isEnabled()){
+                event.list = list;
+                event.operation = op.name();
+                event.nanos = nanos;
+                event.nodesTraversed = nodes;
+                event.size = size;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Records an element created by a list.
+     */
+    void allocated(){
+        allocated.increment();
+    }
+
+    /**
+     * Records an element taken from the pool of a list.
+     */
+    void recycled(){
+        recycled.increment();
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts(){
+        return sums(operations);
+    }
+
+    @Override
+    public Map<String, Long> getNodesTraversed(){
+        return sums(traversed);
+    }
+
+    @Override
+    public Map<String, long[]> getLatencyHistograms(){
+        Map<String, long[]> ret = new LinkedHashMap<String, long[]>();
+        for(Operation op : Operation.values()){
+            long[] histogram = new long[BUCKETS];
+            for(int i = 0; i < BUCKETS; i++) histogram[i] = latency[op.ordinal()][i].sum();
+            ret.put(op.name(), histogram);
+        }
+        return ret;
+    }
+
+    @Override
+    public long getAllocatedElements(){
+        return allocated.sum();
+    }
+
+    @Override
+    public long getRecycledElements(){
+        return recycled.sum();
+    }
+
+    @Override
+    public long getSlowOperations(){
+        return slow.sum();
+    }
+
+    @Override
+    public long getSlowThresholdNanos(){
+        return slowThresholdNanos;
+    }
+
+    @Override
+    public void setSlowThresholdNanos(long nanos){
+        if(nanos < 0) throw new IllegalArgumentException("the threshold must not be negative");
+        slowThresholdNanos = nanos;
+    }
+
+    @Override
+    public void reset(){
+        for(int i = 0; i < operations.length; i++){
+            operations[i].reset();
+            traversed[i].reset();
+            for(LongAdder a : latency[i]) a.reset();
+        }
+        allocated.reset();
+        recycled.reset();
+        slow.reset();
+    }
+
+    /**
+     * @return the String representation of the counters, e.g. for a log.
+     */
+    @Override
+    public String toString(){
+        return list + " " + getOperationCounts() + " traversed " + getNodesTraversed() + " allocated "
+               + getAllocatedElements() + " recycled " + getRecycledElements() + " slow " + getSlowOperations();
+    }
+
+    /**
+     * @param n  the number of adders.
+     * @return an array of n new adders.
+     */
+    private static LongAdder[] adders(int n){
+        LongAdder[] ret = new LongAdder[n];
+        for(int i = 0; i < n; i++) ret[i] = new LongAdder();
+        return ret;
+    }
+
+    /**
+     * @param adders  one adder per operation.
+     * @return the sums of the adders, keyed by the name of the operation.
+     */
+    private static Map<String, Long> sums(LongAdder[] adders){
+        Map<String, Long> ret = new LinkedHashMap<String, Long>();
+        for(Operation op : Operation.values()) ret.put(op.name(), adders[op.ordinal()].sum());
+        return ret;
+    }
+}
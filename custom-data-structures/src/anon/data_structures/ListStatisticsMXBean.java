@@ -0,0 +1,59 @@
+package anon.data_structures;
+
+import java.util.Map;
+
+/**
+ * The management interface through which ListStatistics exposes the counters of a list class over JMX, e.g. in
+ JConsole or VisualVM under anon.data_structures:type=ListStatistics. The maps are keyed by the name of the operation:
+ GET, SET, INSERT, REMOVE or TO_STRING.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public interface ListStatisticsMXBean
+{
+    /**
+     * @return the number of calls of every operation.
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * @return the number of elements walked over by every operation, all the calls together.
+     */
+    Map<String, Long> getNodesTraversed();
+
+    /**
+     * @return for every operation, the number of calls that took from 2^(i-1) to 2^i - 1 nanoseconds at index i.
+     */
+    Map<String, long[]> getLatencyHistograms();
+
+    /**
+     * @return the number of elements created by the lists.
+     */
+    long getAllocatedElements();
+
+    /**
+     * @return the number of elements taken from the pools of the lists instead of being created.
+     */
+    long getRecycledElements();
+
+    /**
+     * @return the number of operations that took at least getSlowThresholdNanos() nanoseconds.
+     */
+    long getSlowOperations();
+
+    /**
+     * @return the duration from which an operation counts as slow and emits a JFR event.
+     */
+    long getSlowThresholdNanos();
+
+    /**
+     * @param nanos  the duration from which an operation counts as slow and emits a JFR event.
+     */
+    void setSlowThresholdNanos(long nanos);
+
+    /**
+     * Sets every counter back to 0.
+     */
+    void reset();
+}
@@ -0,0 +1,482 @@
+package anon.data_structures;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * This class defines a unidirectional, cyclic Linked-List whose element chain lives in a memory-mapped file, so that it
+ survives restarts of the program. The file is made of a header followed by fixed-size element slots.
+     ______________________________________________________________________________________
+     | header(64 bytes)                                      | slot 0 | slot 1 | slot 2 | ...
+     | magic, version, record size, top, tail, length, free, |________|________|________|____
+     | used, dirty                                           |  next slot(int) | record  |
+     |_______________________________________________________|_________________|_________|
+ *
+ * The slots link to each other through int slot numbers, the last element linking back to the first one. Slots of
+ removed elements are chained from the free field of the header and reused.
+ *
+ * Opening an existing file only maps and checks the header, whatever the size of the list; the slots are mapped lazily
+ in segments and a traversal simply reads the mapped pages, leaving the prefetching to the page cache.
+ *
+ * add(E) is crash-safe: the new slot is written first, then linked from the last element and only then recorded as
+ the new tail in the header. A crash between the last two steps is repaired when the file is opened again, by following
+ the link of the recorded tail. The other edits mark the header as dirty while they run and are always ordered so that
+ the chain from top stays a cycle; a file left dirty is recounted once when it is opened again. Slots taken or freed by
+ an edit interrupted by a crash may be lost, the chain itself is never corrupted. With sync enabled, every step is
+ forced to the disk before the next one, so the same holds after a power failure and not only after a crash of the
+ program.
+ *
+ * Just like most other data-structures, the indexing begins from 0.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public class MappedUnidirectionalLinkedList<E> implements Closeable
+{
+    // class variables
+    public static final int DEFAULT_SLOTS_PER_SEGMENT = 1 << 16;        // slots mapped at once unless told otherwise
+    private static final int MAGIC = 0x4C4C4E4B;                        // "LLNK"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int NONE = -1;                                 // stands for a missing slot
+    // offsets of the header fields
+    private static final int H_MAGIC = 0, H_VERSION = 4, H_RECORD = 8, H_TOP = 12, H_TAIL = 16, H_LENGTH = 20,
+            H_FREE = 24, H_USED = 28, H_DIRTY = 32;
+
+    // instance variables
+    private final RecordCodec<E> codec;                                 // writes and reads the records
+    private final FileChannel channel;                                  // the file
+    private final boolean sync;                                         // whether every step is forced to the disk
+    private final int stride;                                           // bytes per slot
+    private final int slotsPerSegment;                                  // slots per mapped segment
+    private final MappedByteBuffer header;                              // the mapped header
+    private MappedByteBuffer[] segments = new MappedByteBuffer[0];      // the mapped slots, null until first used
+    private int top, tail, length;                                      // cached from the header
+    private int pointing;                                               // the currently pointing slot, not persisted
+
+    /**
+     * Opens the list stored in file, creating an empty one if the file does not exist. Nothing is forced to the disk.
+     * @param file  the file holding the list.
+     * @param codec  the codec writing and reading the entries, its size must match the one the file was created with.
+     */
+    public MappedUnidirectionalLinkedList(Path file, RecordCodec<E> codec) throws IOException{
+        this(file, codec, false, DEFAULT_SLOTS_PER_SEGMENT);
+    }
+
+    /**
+     * Opens the list stored in file, creating an empty one if the file does not exist.
+     * @param file  the file holding the list.
+     * @param codec  the codec writing and reading the entries, its size must match the one the file was created with.
+     * @param sync  true to force every step of an edit to the disk before the next one.
+     * @param slotsPerSegment  the number of slots mapped at once.
+     */
+    public MappedUnidirectionalLinkedList(Path file, RecordCodec<E> codec, boolean sync, int slotsPerSegment)
+            throws IOException{
+        if(slotsPerSegment < 1) throw new IllegalArgumentException("slotsPerSegment must be positive");
+        this.codec = codec;
+        this.sync = sync;
+        stride = (4 + codec.size() + 3) & ~3;                           // 4-byte aligned slots
+        if((long)stride*slotsPerSegment > Integer.MAX_VALUE) throw new IllegalArgumentException("segments would exceed 2GB");
+        this.slotsPerSegment = slotsPerSegment;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try{
+            boolean created = channel.size() == 0;
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if(created){
+                header.putInt(H_VERSION, VERSION);
+                header.putInt(H_RECORD, codec.size());
+                header.putInt(H_TOP, NONE);
+                header.putInt(H_TAIL, NONE);
+                header.putInt(H_LENGTH, 0);
+                header.putInt(H_FREE, NONE);
+                header.putInt(H_USED, 0);
+                header.putInt(H_DIRTY, 0);
+                header.putInt(H_MAGIC, MAGIC);                          // written last: the file is valid from now on
+                forceHeader();
+            } else if(header.getInt(H_MAGIC) != MAGIC || header.getInt(H_VERSION) != VERSION){
+                throw new IOException(file + " does not hold a MappedUnidirectionalLinkedList");
+            } else if(header.getInt(H_RECORD) != codec.size()){
+                throw new IOException(file + " holds records of " + header.getInt(H_RECORD) + " bytes, not " + codec.size());
+            }
+            recover();
+        } catch(IOException | RuntimeException e){
+            channel.close();
+            throw e;
+        }
+        pointing = top;
+    }
+
+    /**
+     * @return the number of elements in the list.
+     */
+    public int size(){
+        return length;
+    }
+
+    /**
+     * @param index  the index of the element to be retrieved.
+     * @return the entry contained at the element at the specified index.
+     */
+    public E getElement(int index) throws ListIndexOutOfBoundsException{
+        return read(slot(index));
+    }
+
+    /**
+     * This method adds an element at the end of the list. It is crash-safe, see the description of the class.
+     * @param o  the entry to be added to the new element.
+     */
+    public void add(E o){
+        int s = allocate();
+        fill(s, o, (length == 0)? s : top);     // 1. the new slot, already linking back to the first element
+        forceSlot(s);
+        if(length == 0){
+            header.putInt(H_TAIL, s);
+            header.putInt(H_LENGTH, 1);
+            header.putInt(H_TOP, s);            // 2. written last: the list is not empty from now on
+            top = s;
+            pointing = s;
+        } else{
+            setNext(tail, s);                   // 2. linked from the last element
+            forceSlot(tail);
+            header.putInt(H_TAIL, s);           // 3. recorded in the header
+            header.putInt(H_LENGTH, length + 1);
+        }
+        forceHeader();
+        tail = s;
+        length++;                               // Updating the length.
+    }
+
+    /**
+     * This method adds a new element in the MIDDLE(not the end) of the list such that the new element has <index> = index
+     * @param index  the index value of the new element.
+     * @param o  entry to be contained in the new element
+     */
+    public void add(E o, int index) throws ListIndexOutOfBoundsException{
+        int before = before(index);             // the element that will precede the new one
+        int s = allocate();
+        fill(s, o, next(before));               // not linked yet, the file is still consistent if the codec throws
+        forceSlot(s);
+        setDirty(true);
+        setNext(before, s);                     // the chain is still a cycle from top
+        forceSlot(before);
+        if(before == tail){                     // inserted in front of the first element
+            top = s;
+            header.putInt(H_TOP, s);
+        }
+        length++;                               // updating the size
+        header.putInt(H_LENGTH, length);
+        setDirty(false);
+    }
+
+    /**
+     * Removes the element at index <index> in the list.
+     * @param index  the index of the element which has to be removed.
+     */
+    public void remove(int index) throws ListIndexOutOfBoundsException{
+        int before = before(index);             // the element preceding the removed one
+        int s = next(before);
+        setDirty(true);
+        if(length == 1){                        // the list gets empty
+            top = NONE;
+            tail = NONE;
+            pointing = NONE;
+            header.putInt(H_TOP, NONE);
+            header.putInt(H_TAIL, NONE);
+        } else{
+            if(s == top){                       // the header moves first, so that the chain from top stays a cycle
+                top = next(s);
+                header.putInt(H_TOP, top);
+                forceHeader();
+            }
+            setNext(before, next(s));           // removing it from reference
+            forceSlot(before);
+            if(s == tail){
+                tail = before;
+                header.putInt(H_TAIL, tail);
+            }
+            if(s == pointing) pointing = next(s);
+        }
+        length--;                               // updating size
+        header.putInt(H_LENGTH, length);
+        forceHeader();
+        release(s);                             // the slot can be reused
+        setDirty(false);
+    }
+
+    /**
+     * This method updates the entry in the current element and sets it to the passed argument.
+     * @param o  the new entry
+     */
+    public void setEntry(E o){
+        checkOpen();
+        if(length == 0) throw new NoSuchElementException();
+        write(pointing, o, next(pointing));
+        forceSlot(pointing);
+    }
+
+    /**
+     * This method updates the entry in the element at index <index> and sets it to the passed argument. A record is not
+     written atomically, a crash while it is written may leave it torn.
+     * @param o  the new entry
+     * @param index  the index of the element to be updated
+     */
+    public void setEntry(E o, int index) throws ListIndexOutOfBoundsException{
+        int s = slot(index);
+        write(s, o, next(s));
+        forceSlot(s);
+    }
+
+    /**
+     * @return the entry of the next element while updating the pointer.
+     */
+    public E next(){
+        checkOpen();
+        if(length == 0) throw new NoSuchElementException();
+        pointing = next(pointing);
+        return read(pointing);
+    }
+
+    /**
+     * Forces every change made so far to the disk.
+     */
+    public void force(){
+        checkOpen();
+        header.force();
+        for(MappedByteBuffer segment : segments){
+            if(segment != null) segment.force();
+        }
+    }
+
+    /**
+     * Forces the changes to the disk and closes the file. The list cannot be used afterwards.
+     */
+    @Override
+    public void close() throws IOException{
+        if(!channel.isOpen()) return;
+        force();
+        segments = null;
+        channel.close();
+    }
+
+    /**
+     * @return the String representation of the entries stored in the list in format "[ ob1.toString(), ob2.toString ... ]"
+     */
+    @Override
+    public String toString(){
+        checkOpen();
+        StringBuilder ret = new StringBuilder("[ ");
+        for(int i = 0, s = top; i < length; i++, s = next(s)){
+            if(i > 0) ret.append(", ");
+            ret.append(read(s));
+        }
+        return ret.append(" ]").toString();
+    }
+
+    /**
+     * Loads the header and repairs what a crash may have left behind: an append whose tail was not recorded yet, or an
+     edit that did not complete.
+     */
+    private void recover(){
+        top = header.getInt(H_TOP);
+        tail = header.getInt(H_TAIL);
+        length = header.getInt(H_LENGTH);
+        if(top == NONE){                        // the list is empty, whatever else was written
+            tail = NONE;
+            length = 0;
+        } else if(header.getInt(H_DIRTY) != 0){ // an edit was interrupted, the chain from top is recounted
+            int used = header.getInt(H_USED);
+            length = 1;
+            tail = top;
+            while(next(tail) != top && length <= used){
+                tail = next(tail);
+                length++;
+            }
+        } else{
+            int used = header.getInt(H_USED);
+            while(next(tail) != top && length < used){  // an append was linked but not recorded
+                tail = next(tail);
+                length++;
+            }
+        }
+        header.putInt(H_TOP, top);
+        header.putInt(H_TAIL, tail);
+        header.putInt(H_LENGTH, length);
+        header.putInt(H_DIRTY, 0);
+        forceHeader();
+    }
+
+    /**
+     * Finds the slot of the element at the given index, walking from the first element; the last one is reached directly.
+     * @param index  the index of the element, negative values are counted from the end of the list.
+     * @return the slot of that element.
+     */
+    private int slot(int index) throws ListIndexOutOfBoundsException{
+        checkOpen();
+        if(index >= length || index < -length) throw new ListIndexOutOfBoundsException();
+        index = (index + length)%length;
+        if(index == length - 1) return tail;
+        int s = top;
+        for(int i = 0; i < index; i++) s = next(s);
+        return s;
+    }
+
+    /**
+     * Finds the slot of the element linking to the one at the given index, which is all that an edit at that index needs.
+     * @param index  the index of an element, negative values are counted from the end of the list.
+     * @return the slot of the element before it, the last element for index 0.
+     */
+    private int before(int index) throws ListIndexOutOfBoundsException{
+        checkOpen();
+        if(index >= length || index < -length) throw new ListIndexOutOfBoundsException();
+        index = (index + length)%length;
+        return index == 0 ? tail : slot(index - 1);
+    }
+
+    /**
+     * Takes an unused slot and records in the header that it is taken, before anything is written into it.
+     * @return the slot.
+     */
+    private int allocate(){
+        checkOpen();
+        int s = header.getInt(H_FREE);
+        if(s != NONE){                          // reusing a slot freed by remove(int)
+            header.putInt(H_FREE, next(s));
+        } else{
+            s = header.getInt(H_USED);
+            if(s == Integer.MAX_VALUE) throw new IllegalStateException("the file is full");
+            header.putInt(H_USED, s + 1);
+        }
+        forceHeader();
+        return s;
+    }
+
+    /**
+     * Puts a slot that is not linked from the chain back at the head of the free slots.
+     * @param s  the slot.
+     */
+    private void release(int s){
+        setNext(s, header.getInt(H_FREE));
+        forceSlot(s);
+        header.putInt(H_FREE, s);
+    }
+
+    /**
+     * @param s  a slot.
+     * @return the mapped segment holding it, mapped now if it was not yet.
+     */
+    private MappedByteBuffer segment(int s){
+        int k = s/slotsPerSegment;
+        if(k >= segments.length) segments = Arrays.copyOf(segments, k + 1);
+        if(segments[k] == null){
+            try{
+                long position = HEADER_SIZE + (long)k*slotsPerSegment*stride;
+                segments[k] = channel.map(FileChannel.MapMode.READ_WRITE, position, (long)slotsPerSegment*stride);
+                segments[k].order(ByteOrder.LITTLE_ENDIAN);
+            } catch(IOException e){
+                throw new UncheckedIOException(e);
+            }
+        }
+        return segments[k];
+    }
+
+    /**
+     * @param s  a slot.
+     * @return the position of the slot inside its segment.
+     */
+    private int offset(int s){
+        return (s%slotsPerSegment)*stride;
+    }
+
+    /**
+     * @param s  a slot.
+     * @return the slot linked from s.
+     */
+    private int next(int s){
+        return segment(s).getInt(offset(s));
+    }
+
+    /**
+     * @param s  a slot.
+     * @param target  the slot s has to link to.
+     */
+    private void setNext(int s, int target){
+        segment(s).putInt(offset(s), target);
+    }
+
+    /**
+     * Writes a whole slot.
+     * @param s  the slot.
+     * @param o  the entry.
+     * @param next  the slot it links to.
+     */
+    private void write(int s, E o, int next){
+        MappedByteBuffer segment = segment(s);
+        codec.write(o, segment, offset(s) + 4);
+        segment.putInt(offset(s), next);
+    }
+
+    /**
+     * Writes a whole slot just taken by allocate(), and hands the slot back if the codec throws, e.g. for an entry it
+     cannot encode, so that the slot is not lost from the file.
+     * @param s  the slot.
+     * @param o  the entry.
+     * @param next  the slot it links to.
+     */
+    private void fill(int s, E o, int next){
+        try{
+            write(s, o, next);
+        } catch(RuntimeException e){
+            release(s);
+            forceHeader();
+            throw e;
+        }
+    }
+
+    /**
+     * @param s  a slot.
+     * @return the entry stored in that slot.
+     */
+    private E read(int s){
+        return codec.read(segment(s), offset(s) + 4);
+    }
+
+    /**
+     * Marks the header as dirty while an edit other than an append runs.
+     * @param dirty  true when the edit starts, false when it is over.
+     */
+    private void setDirty(boolean dirty){
+        header.putInt(H_DIRTY, dirty? 1 : 0);
+        forceHeader();
+    }
+
+    /**
+     * Forces the header to the disk if sync is enabled.
+     */
+    private void forceHeader(){
+        if(sync) header.force();
+    }
+
+    /**
+     * Forces the segment holding the slot s to the disk if sync is enabled.
+     * @param s  a slot.
+     */
+    private void forceSlot(int s){
+        if(sync) segment(s).force();
+    }
+
+    /**
+     * Makes sure that the file has not been closed.
+     */
+    private void checkOpen(){
+        if(segments == null) throw new IllegalStateException("the list has been closed");
+    }
+}
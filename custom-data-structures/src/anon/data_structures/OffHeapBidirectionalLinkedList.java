@@ -0,0 +1,290 @@
+package anon.data_structures;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * This class defines a bidirectional, cyclic Linked-List whose elements live outside of the Java heap. The elements are
+ fixed-size slots in an arena of direct ByteBuffers, they link to each other through int slot numbers instead of
+ references and the entries are stored as records written by a user supplied RecordCodec.
+     _____________________________________________________________
+     |  next slot(int)  |  prev slot(int)  |  record(codec.size())  |    <-- one element, repeated slotsPerChunk
+     |__________________|__________________|________________________|        times in every chunk of the arena
+ *
+ * The heap only holds the arena handle(an array of chunks) and a few int fields, whatever the number of elements, so
+ lists of tens of millions of elements put no load on the garbage collector. Slots of removed elements are chained
+ together and reused.
+ *
+ * The arena is released by close(); the list cannot be used afterwards. Direct buffers return their memory to the
+ system once they are reclaimed, close() drops every reference to them so that this can happen.
+ *
+ * Just like most other data-structures, the indexing begins from 0.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public class OffHeapBidirectionalLinkedList<E> implements AutoCloseable
+{
+    // class variables
+    public static final int DEFAULT_SLOTS_PER_CHUNK = 1 << 16;          // elements per chunk unless told otherwise
+    private static final int NONE = -1;                                 // stands for a missing slot
+    private static final int NEXT = 0, PREV = 4, RECORD = 8;            // offsets inside a slot
+
+    // instance variables
+    private final RecordCodec<E> codec;                                 // writes and reads the records
+    private final int stride;                                           // bytes per slot
+    private final int chunkShift;                                       // log2 of the slots per chunk
+    private final int chunkMask;                                        // slots per chunk - 1
+    private ByteBuffer[] chunks = new ByteBuffer[0];                    // the arena, null once closed
+    private int top = NONE, tail = NONE, pointing = NONE;               // first, last and currently pointing slot
+    private int free = NONE;                                            // first reusable slot, chained through next
+    private int used = 0;                                               // slots at and above this one were never used
+    private int length = 0;                                             // size of the list
+
+    /**
+     * Creates an empty list with chunks of DEFAULT_SLOTS_PER_CHUNK elements.
+     * @param codec  the codec writing and reading the entries.
+     */
+    public OffHeapBidirectionalLinkedList(RecordCodec<E> codec){
+        this(codec, DEFAULT_SLOTS_PER_CHUNK);
+    }
+
+    /**
+     * Creates an empty list whose arena grows by chunks of slotsPerChunk elements.
+     * @param codec  the codec writing and reading the entries.
+     * @param slotsPerChunk  the number of elements per chunk, rounded up to a power of two.
+     */
+    public OffHeapBidirectionalLinkedList(RecordCodec<E> codec, int slotsPerChunk){
+        if(slotsPerChunk < 1) throw new IllegalArgumentException("slotsPerChunk must be positive");
+        this.codec = codec;
+        stride = (RECORD + codec.size() + 7) & ~7;                      // 8-byte aligned slots
+        chunkShift = 32 - Integer.numberOfLeadingZeros(slotsPerChunk - 1);
+        chunkMask = (1 << chunkShift) - 1;
+        if((long)stride << chunkShift > Integer.MAX_VALUE) throw new IllegalArgumentException("chunks would exceed 2GB");
+    }
+
+    /**
+     * @return the number of elements in the list.
+     */
+    public int size(){
+        return length;
+    }
+
+    /**
+     * @param index  the index of the element to be retrieved.
+     * @return the entry contained at the element at the specified index.
+     */
+    public E getElement(int index) throws ListIndexOutOfBoundsException{
+        return read(slot(index));
+    }
+
+    /**
+     * This method adds an element at the end of the list.
+     * @param o  the entry to be added to the new element.
+     */
+    public void add(E o){
+        int s = allocate(o);
+        if(length == 0){                        // if the list is empty, a different approach is needed
+            top = s;
+            pointing = s;
+            setLink(s, NEXT, s);
+            setLink(s, PREV, s);
+        } else{
+            linkAfter(s, tail);
+        }
+        tail = s;
+        length++;                               // Updating the length.
+    }
+
+    /**
+     * This method adds a new element in the MIDDLE(not the end) of the list such that the new element has <index> = index
+     * @param index  the index value of the new element.
+     * @param o  entry to be contained in the new element
+     */
+    public void add(E o, int index) throws ListIndexOutOfBoundsException{
+        int curr = slot(index);
+        int s = allocate(o);
+        linkAfter(s, link(curr, PREV));
+        if(curr == top) top = s;
+        length++;                               // updating the size
+    }
+
+    /**
+     * Removes the element at index <index> in the list.
+     * @param index  the index of the element which has to be removed.
+     */
+    public void remove(int index) throws ListIndexOutOfBoundsException{
+        int s = slot(index);
+        if(length == 1){                        // the list gets empty
+            top = NONE;
+            tail = NONE;
+            pointing = NONE;
+        } else{
+            int prev = link(s, PREV), next = link(s, NEXT);
+            setLink(prev, NEXT, next);          // removing it from reference
+            setLink(next, PREV, prev);
+            if(s == top) top = next;
+            if(s == tail) tail = prev;
+            if(s == pointing) pointing = next;
+        }
+        setLink(s, NEXT, free);                 // the slot can be reused
+        free = s;
+        length--;                               // updating size
+    }
+
+    /**
+     * This method updates the entry in the element at index <index> and sets it to the passed argument.
+     * @param o  the new entry
+     * @param index  the index of the element to be updated
+     */
+    public void setEntry(E o, int index) throws ListIndexOutOfBoundsException{
+        int s = slot(index);
+        codec.write(o, chunks[s >>> chunkShift], offset(s) + RECORD);
+    }
+
+    /**
+     * @return the entry of the previous element while updating the pointer.
+     */
+    public E prev(){
+        checkOpen();
+        if(length == 0) throw new NoSuchElementException();
+        pointing = link(pointing, PREV);
+        return read(pointing);
+    }
+
+    /**
+     * @return the entry of the next element while updating the pointer.
+     */
+    public E next(){
+        checkOpen();
+        if(length == 0) throw new NoSuchElementException();
+        pointing = link(pointing, NEXT);
+        return read(pointing);
+    }
+
+    /**
+     * Releases the arena. Every later call to a method of this list throws an IllegalStateException.
+     */
+    @Override
+    public void close(){
+        chunks = null;
+        top = tail = pointing = free = NONE;
+        used = 0;
+        length = 0;
+    }
+
+    /**
+     * @return the String representation of the entries stored in the list in format "[ ob1.toString(), ob2.toString ... ]"
+     */
+    @Override
+    public String toString(){
+        checkOpen();
+        StringBuilder ret = new StringBuilder("[ ");
+        for(int i = 0, s = top; i < length; i++, s = link(s, NEXT)){
+            if(i > 0) ret.append(", ");
+            ret.append(read(s));
+        }
+        return ret.append(" ]").toString();
+    }
+
+    /**
+     * Finds the slot of the element at the given index, walking from whichever end of the list is closer.
+     * @param index  the index of the element, negative values are counted from the end of the list.
+     * @return the slot of that element.
+     */
+    private int slot(int index) throws ListIndexOutOfBoundsException{
+        checkOpen();
+        if(index >= length || index < -length) throw new ListIndexOutOfBoundsException();
+        index = (index + length)%length;
+        int s;
+        if(index <= length/2){
+            s = top;
+            for(int i = 0; i < index; i++) s = link(s, NEXT);
+        } else{
+            s = tail;
+            for(int i = length - 1; i > index; i--) s = link(s, PREV);
+        }
+        return s;
+    }
+
+    /**
+     * Takes an unused slot, adding a chunk to the arena if there is none left, and writes o into it. The slot is only
+     taken once the codec wrote o, so it stays unused if the codec throws.
+     * @param o  the entry to be stored.
+     * @return the slot.
+     */
+    private int allocate(E o){
+        checkOpen();
+        int s;
+        if(free != NONE){                       // reusing a slot freed by remove(int)
+            s = free;
+        } else{
+            if(used == Integer.MAX_VALUE) throw new IllegalStateException("the arena is full");
+            if((used >>> chunkShift) == chunks.length){
+                chunks = Arrays.copyOf(chunks, chunks.length + 1);
+                chunks[chunks.length - 1] = ByteBuffer.allocateDirect(stride << chunkShift).order(ByteOrder.nativeOrder());
+            }
+            s = used;
+        }
+        codec.write(o, chunks[s >>> chunkShift], offset(s) + RECORD);    // leaves the links of s alone
+        if(s == free) free = link(s, NEXT);
+        else used++;
+        return s;
+    }
+
+    /**
+     * Links the slot s right after the slot before.
+     * @param s  the slot to be linked.
+     * @param before  the slot that will precede it.
+     */
+    private void linkAfter(int s, int before){
+        int after = link(before, NEXT);
+        setLink(s, PREV, before);
+        setLink(s, NEXT, after);
+        setLink(after, PREV, s);
+        setLink(before, NEXT, s);
+    }
+
+    /**
+     * @param s  a slot.
+     * @param which  NEXT or PREV.
+     * @return the slot linked from s.
+     */
+    private int link(int s, int which){
+        return chunks[s >>> chunkShift].getInt(offset(s) + which);
+    }
+
+    /**
+     * @param s  a slot.
+     * @param which  NEXT or PREV.
+     * @param target  the slot s has to link to.
+     */
+    private void setLink(int s, int which, int target){
+        chunks[s >>> chunkShift].putInt(offset(s) + which, target);
+    }
+
+    /**
+     * @param s  a slot.
+     * @return the entry stored in that slot.
+     */
+    private E read(int s){
+        return codec.read(chunks[s >>> chunkShift], offset(s) + RECORD);
+    }
+
+    /**
+     * @param s  a slot.
+     * @return the position of the slot inside its chunk.
+     */
+    private int offset(int s){
+        return (s & chunkMask)*stride;
+    }
+
+    /**
+     * Makes sure that the arena has not been released.
+     */
+    private void checkOpen(){
+        if(chunks == null) throw new IllegalStateException("the list has been closed");
+    }
+}
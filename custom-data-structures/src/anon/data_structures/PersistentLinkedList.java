@@ -0,0 +1,437 @@
+package anon.data_structures;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class defines an immutable list. Every modification leaves the list it is called on untouched and returns a new
+ list instead, which shares all but O(log n) of its elements with the old one:
+
+     old list                              new list = old.setEntry(x, 5)
+                  (3)                                    (3')
+                 /   \                                  /    \
+              (1)     (5)                  shared --> (1)     (5')
+              / \     / \                             / \     /  \
+            (0) (2) (4) (6)                         (0) (2) (4)  (6) <-- shared
+ *
+ * The elements form an AVL tree ordered by position. Each element knows how many elements its subtree holds, so the
+ element at an index is found by descending from the root, and a change only copies the elements on the path from the
+ root down to the changed one(path copying). getElement(int), add(E), add(E, int), remove(int) and setEntry(E, int)
+ therefore run in O(log n) time and allocate O(log n) elements; concat(PersistentLinkedList) and removeRange(int, int)
+ too, as they only join or cut trees.
+ *
+ * Since no element ever changes once it is created, a list can be read by any number of threads without any locking,
+ and keeping an old version costs nothing but the elements that were copied since. SnapshotBidirectionalLinkedList uses
+ it to hand out O(1) snapshots to readers while writers go on.
+ *
+ * Just like most other data-structures, the indexing begins from 0. Negative indices count from the end, -1 being the
+ last element.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public final class PersistentLinkedList<E> implements Iterable<E>
+{
+    // class variables
+    private static final PersistentLinkedList<?> EMPTY = new PersistentLinkedList<Object>(null);   // shared by all types
+
+    // instance variables
+    private final PersistentLinkedListElement<E> root;          // root of the tree, null if the list is empty
+
+    /**
+     *          cell1            cell2             cell3            cell4
+     ________________________________________________________________________
+     |                  |             |                    |                  |
+     |  Reference to    |    E o      |   Reference to     |  size, height    |
+     |  left subtree    |             |   right subtree    |  of the subtree  |
+     |__________________|_____________|____________________|__________________|
+     *
+     * element stores the entry of type E. Every field is final: an element is shared by all the lists containing it
+     and is replaced, never changed.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private static final class PersistentLinkedListElement<E>
+    {
+        // instance variables
+        private final PersistentLinkedListElement<E> left, right;   // the entries before and after this one
+        private final E element;                                    // stores the entry
+        private final int size;                                     // number of elements in this subtree
+        private final int height;                                   // longest path down to a leaf, 1 for a leaf
+
+        /**
+         * Creates an element from its entry and subtrees, which must differ in height by at most 1.
+         * @param left  the subtree before the entry, or null.
+         * @param o  the entry.
+         * @param right  the subtree after the entry, or null.
+         */
+        private PersistentLinkedListElement(PersistentLinkedListElement<E> left, E o, PersistentLinkedListElement<E> right){
+            this.left = left;
+            this.element = o;
+            this.right = right;
+            size = size(left) + 1 + size(right);
+            height = Math.max(height(left), height(right)) + 1;
+        }
+
+        /**
+         * @return the String representation of the entry contained in the invoking Element.
+         */
+        @Override
+        public String toString(){
+            return String.valueOf(element);
+        }
+    }
+
+    /**
+     * Creates a list with the given tree.
+     * @param root  the root, or null.
+     */
+    private PersistentLinkedList(PersistentLinkedListElement<E> root){
+        this.root = root;
+    }
+
+    /**
+     * @return the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentLinkedList<E> empty(){
+        return (PersistentLinkedList<E>)EMPTY;
+    }
+
+    /**
+     * Creates a list holding the entries of a Collection, or of any other Iterable, in their iteration order. The tree
+     is built perfectly balanced in O(n).
+     * @param c  the entries.
+     * @return the new list.
+     */
+    public static <E> PersistentLinkedList<E> of(Iterable<? extends E> c){
+        return PersistentLinkedList.<E>empty().addAll(c);
+    }
+
+    /**
+     * @return the number of elements in the list.
+     */
+    public int size(){
+        return size(root);
+    }
+
+    /**
+     * @return true if the list has no elements.
+     */
+    public boolean isEmpty(){
+        return root == null;
+    }
+
+    /**
+     * @param index  the index of the element to be retrieved.
+     * @return the entry contained at the element at the specified index.
+     */
+    public E getElement(int index) throws ListIndexOutOfBoundsException{
+        index = check(index);
+        PersistentLinkedListElement<E> e = root;
+        while(true){
+            int ls = size(e.left);
+            if(index < ls){
+                e = e.left;
+            } else if(index > ls){
+                index -= ls + 1;
+                e = e.right;
+            } else{
+                return e.element;
+            }
+        }
+    }
+
+    /**
+     * @param o  the entry to be added at the end.
+     * @return a new list with o added at the end of this one.
+     */
+    public PersistentLinkedList<E> add(E o){
+        return new PersistentLinkedList<E>(insert(root, size(root), o));
+    }
+
+    /**
+     * @param o  the entry to be added.
+     * @param index  the index of the new element, the element now at that index and those after it move one forward.
+     * @return a new list with o added such that its element has <index> = index.
+     */
+    public PersistentLinkedList<E> add(E o, int index) throws ListIndexOutOfBoundsException{
+        return new PersistentLinkedList<E>(insert(root, check(index), o));
+    }
+
+    /**
+     * @param index  the index of the element to be removed.
+     * @return a new list without the element at index <index>.
+     */
+    public PersistentLinkedList<E> remove(int index) throws ListIndexOutOfBoundsException{
+        return new PersistentLinkedList<E>(delete(root, check(index)));
+    }
+
+    /**
+     * @param o  the new entry.
+     * @param index  the index of the element to be updated.
+     * @return a new list whose element at index <index> holds o.
+     */
+    public PersistentLinkedList<E> setEntry(E o, int index) throws ListIndexOutOfBoundsException{
+        return new PersistentLinkedList<E>(set(root, check(index), o));
+    }
+
+    /**
+     * The new entries are built into a balanced tree of their own in O(k), which is then joined to this one in
+     O(log n).
+     * @param c  the entries to be added, in their iteration order.
+     * @return a new list with the entries of c added at the end of this one.
+     */
+    public PersistentLinkedList<E> addAll(Iterable<? extends E> c){
+        ArrayList<E> entries = new ArrayList<E>();
+        for(E o : c) entries.add(o);
+        if(entries.isEmpty()) return this;
+        return new PersistentLinkedList<E>(concat(root, build(entries, 0, entries.size())));
+    }
+
+    /**
+     * Joins two lists in O(log n); neither of them changes.
+     * @param list  the list whose entries follow those of this one.
+     * @return a new list with the entries of this list followed by those of list.
+     */
+    public PersistentLinkedList<E> concat(PersistentLinkedList<E> list){
+        return new PersistentLinkedList<E>(concat(root, list.root));
+    }
+
+    /**
+     * @param from  the index of the first element to be removed.
+     * @param to  the index after the last element to be removed.
+     * @return a new list without the elements from index from(inclusive) to index to(exclusive).
+     */
+    public PersistentLinkedList<E> removeRange(int from, int to) throws ListIndexOutOfBoundsException{
+        if(from < 0 || to > size(root) || from > to) throw new ListIndexOutOfBoundsException();
+        if(from == to) return this;
+        return new PersistentLinkedList<E>(concat(take(root, from), drop(root, to)));
+    }
+
+    /**
+     * The iterator reads an immutable tree, so it never fails and needs no synchronization.
+     * @return an iterator over the entries, from the first to the last one.
+     */
+    @Override
+    public Iterator<E> iterator(){
+        return new PersistentLinkedListIterator();
+    }
+
+    /**
+     * @return a sequential Stream of the entries.
+     */
+    public Stream<E> stream(){
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public Spliterator<E> spliterator(){
+        return Spliterators.spliterator(iterator(), size(root),
+                                        Spliterator.ORDERED | Spliterator.SIZED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * @return the String representation of the entries stored in the list in format "[ ob1.toString(), ob2.toString ... ]"
+     */
+    @Override
+    public String toString(){
+        StringBuilder ret = new StringBuilder("[ ");
+        boolean first = true;
+        for(E o : this){
+            if(!first) ret.append(", ");
+            ret.append(String.valueOf(o));
+            first = false;
+        }
+        return ret.append(" ]").toString();
+    }
+
+    /**
+     * Validates an index and turns a negative one into the index it stands for.
+     * @param index  the index, from -size() to size() - 1.
+     * @return the index from 0 to size() - 1.
+     */
+    private int check(int index) throws ListIndexOutOfBoundsException{
+        int length = size(root);
+        if(index >= length || index < -length) throw new ListIndexOutOfBoundsException();
+        return (index + length)%length;
+    }
+
+    /**
+     * This class iterates over the elements in order with an explicit stack of the elements still to be visited, as
+     deep as the tree.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private final class PersistentLinkedListIterator implements Iterator<E>
+    {
+        // instance variables
+        private final Object[] stack = new Object[height(root)];    // elements whose entry and right subtree are pending
+        private int depth = 0;                                      // number of elements on the stack
+
+        private PersistentLinkedListIterator(){
+            pushLeft(root);
+        }
+
+        @Override
+        public boolean hasNext(){
+            return depth > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next(){
+            if(depth == 0) throw new NoSuchElementException();
+            PersistentLinkedListElement<E> e = (PersistentLinkedListElement<E>)stack[--depth];
+            pushLeft(e.right);
+            return e.element;
+        }
+
+        /**
+         * Pushes e and the left spine below it.
+         * @param e  the subtree to be visited next, or null.
+         */
+        private void pushLeft(PersistentLinkedListElement<E> e){
+            for(; e != null; e = e.left) stack[depth++] = e;
+        }
+    }
+
+    /*
+     * The operations on the trees. None of them changes an element: whatever differs is copied, the rest is shared.
+     */
+
+    /**
+     * @return the number of elements in the subtree e, 0 for null.
+     */
+    private static int size(PersistentLinkedListElement<?> e){
+        return e == null ? 0 : e.size;
+    }
+
+    /**
+     * @return the height of the subtree e, 0 for null.
+     */
+    private static int height(PersistentLinkedListElement<?> e){
+        return e == null ? 0 : e.height;
+    }
+
+    /**
+     * Creates an element from subtrees whose heights differ by at most 2, rotating once or twice if they differ by 2.
+     * @return the root of the balanced subtree.
+     */
+    private static <E> PersistentLinkedListElement<E> balance(PersistentLinkedListElement<E> l, E o,
+                                                              PersistentLinkedListElement<E> r){
+        int hl = height(l), hr = height(r);
+        if(hl > hr + 1){
+            if(height(l.left) >= height(l.right)){
+                return new PersistentLinkedListElement<E>(l.left, l.element, new PersistentLinkedListElement<E>(l.right, o, r));
+            }
+            PersistentLinkedListElement<E> m = l.right;
+            return new PersistentLinkedListElement<E>(new PersistentLinkedListElement<E>(l.left, l.element, m.left),
+                                                      m.element, new PersistentLinkedListElement<E>(m.right, o, r));
+        }
+        if(hr > hl + 1){
+            if(height(r.right) >= height(r.left)){
+                return new PersistentLinkedListElement<E>(new PersistentLinkedListElement<E>(l, o, r.left), r.element, r.right);
+            }
+            PersistentLinkedListElement<E> m = r.left;
+            return new PersistentLinkedListElement<E>(new PersistentLinkedListElement<E>(l, o, m.left),
+                                                      m.element, new PersistentLinkedListElement<E>(m.right, r.element, r.right));
+        }
+        return new PersistentLinkedListElement<E>(l, o, r);
+    }
+
+    /**
+     * Joins two trees of any heights around an entry, descending along the taller tree down to the height of the other.
+     * @return the root of l, o and r in this order.
+     */
+    private static <E> PersistentLinkedListElement<E> join(PersistentLinkedListElement<E> l, E o,
+                                                           PersistentLinkedListElement<E> r){
+        if(height(l) > height(r) + 1) return balance(l.left, l.element, join(l.right, o, r));
+        if(height(r) > height(l) + 1) return balance(join(l, o, r.left), r.element, r.right);
+        return new PersistentLinkedListElement<E>(l, o, r);
+    }
+
+    /**
+     * @return the root of l followed by r.
+     */
+    private static <E> PersistentLinkedListElement<E> concat(PersistentLinkedListElement<E> l,
+                                                             PersistentLinkedListElement<E> r){
+        if(l == null) return r;
+        if(r == null) return l;
+        PersistentLinkedListElement<E> first = r;
+        while(first.left != null) first = first.left;
+        return join(l, first.element, delete(r, 0));
+    }
+
+    /**
+     * @return the root of the first count entries of e.
+     */
+    private static <E> PersistentLinkedListElement<E> take(PersistentLinkedListElement<E> e, int count){
+        if(e == null || count <= 0) return null;
+        if(count >= e.size) return e;
+        int ls = size(e.left);
+        if(count <= ls) return take(e.left, count);
+        return join(e.left, e.element, take(e.right, count - ls - 1));
+    }
+
+    /**
+     * @return the root of the entries of e after the first count ones.
+     */
+    private static <E> PersistentLinkedListElement<E> drop(PersistentLinkedListElement<E> e, int count){
+        if(e == null || count >= e.size) return null;
+        if(count <= 0) return e;
+        int ls = size(e.left);
+        if(count <= ls) return join(drop(e.left, count), e.element, e.right);
+        return drop(e.right, count - ls - 1);
+    }
+
+    /**
+     * @return the root of e with o inserted at index.
+     */
+    private static <E> PersistentLinkedListElement<E> insert(PersistentLinkedListElement<E> e, int index, E o){
+        if(e == null) return new PersistentLinkedListElement<E>(null, o, null);
+        int ls = size(e.left);
+        if(index <= ls) return balance(insert(e.left, index, o), e.element, e.right);
+        return balance(e.left, e.element, insert(e.right, index - ls - 1, o));
+    }
+
+    /**
+     * @return the root of e without the entry at index.
+     */
+    private static <E> PersistentLinkedListElement<E> delete(PersistentLinkedListElement<E> e, int index){
+        int ls = size(e.left);
+        if(index < ls) return balance(delete(e.left, index), e.element, e.right);
+        if(index > ls) return balance(e.left, e.element, delete(e.right, index - ls - 1));
+        if(e.left == null) return e.right;
+        if(e.right == null) return e.left;
+        PersistentLinkedListElement<E> next = e.right;                  // the entry after e takes its place
+        while(next.left != null) next = next.left;
+        return balance(e.left, next.element, delete(e.right, 0));
+    }
+
+    /**
+     * @return the root of e with the entry at index replaced by o.
+     */
+    private static <E> PersistentLinkedListElement<E> set(PersistentLinkedListElement<E> e, int index, E o){
+        int ls = size(e.left);
+        if(index < ls) return new PersistentLinkedListElement<E>(set(e.left, index, o), e.element, e.right);
+        if(index > ls) return new PersistentLinkedListElement<E>(e.left, e.element, set(e.right, index - ls - 1, o));
+        return new PersistentLinkedListElement<E>(e.left, o, e.right);
+    }
+
+    /**
+     * @return the root of a perfectly balanced tree of the entries from index from(inclusive) to index to(exclusive).
+     */
+    private static <E> PersistentLinkedListElement<E> build(ArrayList<E> entries, int from, int to){
+        if(from == to) return null;
+        int mid = (from + to) >>> 1;
+        return new PersistentLinkedListElement<E>(build(entries, from, mid), entries.get(mid), build(entries, mid + 1, to));
+    }
+}
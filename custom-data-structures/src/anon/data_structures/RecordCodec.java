@@ -0,0 +1,64 @@
+package anon.data_structures;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A RecordCodec turns entries of type E into fixed-width records and back. It is used by the lists that keep their
+ entries outside of the Java heap, where every element slot has room for exactly size() bytes.
+ *
+ * write(E, ByteBuffer, int) and read(ByteBuffer, int) must only use the absolute get and put methods of the buffer, so
+ that the position and limit of the buffer are left alone.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public interface RecordCodec<E>
+{
+    /**
+     * Stores int entries in 4 bytes.
+     */
+    RecordCodec<Integer> INT = new RecordCodec<Integer>(){
+        public int size(){ return Integer.BYTES; }
+        public void write(Integer o, ByteBuffer buffer, int offset){ buffer.putInt(offset, o); }
+        public Integer read(ByteBuffer buffer, int offset){ return buffer.getInt(offset); }
+    };
+
+    /**
+     * Stores long entries in 8 bytes.
+     */
+    RecordCodec<Long> LONG = new RecordCodec<Long>(){
+        public int size(){ return Long.BYTES; }
+        public void write(Long o, ByteBuffer buffer, int offset){ buffer.putLong(offset, o); }
+        public Long read(ByteBuffer buffer, int offset){ return buffer.getLong(offset); }
+    };
+
+    /**
+     * Stores double entries in 8 bytes.
+     */
+    RecordCodec<Double> DOUBLE = new RecordCodec<Double>(){
+        public int size(){ return Double.BYTES; }
+        public void write(Double o, ByteBuffer buffer, int offset){ buffer.putDouble(offset, o); }
+        public Double read(ByteBuffer buffer, int offset){ return buffer.getDouble(offset); }
+    };
+
+    /**
+     * @return the number of bytes of every record, which must never change.
+     */
+    int size();
+
+    /**
+     * Writes the entry o as a record of size() bytes.
+     * @param o  the entry to be written.
+     * @param buffer  the buffer holding the record.
+     * @param offset  the position of the first byte of the record in the buffer.
+     */
+    void write(E o, ByteBuffer buffer, int offset);
+
+    /**
+     * Reads back an entry written by write(E, ByteBuffer, int).
+     * @param buffer  the buffer holding the record.
+     * @param offset  the position of the first byte of the record in the buffer.
+     * @return the entry stored in the record.
+     */
+    E read(ByteBuffer buffer, int offset);
+}
@@ -0,0 +1,388 @@
+package anon.data_structures;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * This class defines a bounded, cyclic Linked-List used as a sliding window: all of its elements are created and linked
+ into a cycle by the constructor, and once the cycle is full every add(E) overwrites the oldest entry.
+                 oldest                                newest
+     ________     ____|___     ________     ________     ___|____     ________
+     |  -   |---->|  e0  |---->|  e1  |---->|  ... |---->|  en  |---->|  -   |----> back to the first element
+     |______|     |______|     |______|     |______|     |______|     |______|        (capacity elements in all)
+ *
+ * Adding an entry only moves the newest reference one element forward along the cycle, so after construction the list
+ never allocates anything, whatever the number of entries added.
+ *
+ * A list created with a measure also keeps aggregates of the window: sum(), average(), min() and max() of the measure
+ of the entries it holds, each answered in O(1). min() and max() are kept by two monotonic queues whose arrays are
+ allocated by the constructor as well.
+ *
+ * The indexing begins from 0 at the oldest entry; negative indices are counted back from the newest one.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public class RingBufferLinkedList<E> implements Iterable<E>
+{
+    // instance variables
+    private final int capacity;                                         // number of elements in the cycle
+    private RingBufferLinkedListElement<E> oldest, newest;              // first and last element holding an entry
+    private int length = 0;                                             // number of entries held
+    private long added = 0;                                             // number of entries ever added, the sequence of the next one
+    private int modCount = 0;                                           // modifications, checked by the iterators
+    private final ToDoubleFunction<? super E> measure;                  // turns entries into the aggregated values, may be null
+    private double sum, compensation;                                   // compensated sum of the measures in the window
+    private final MonotonicQueue minQueue, maxQueue;                    // candidates for min() and max(), null without a measure
+
+    /**
+     *     cell1            cell2              cell3
+     ____________________________________________________
+     |                |              |                    |
+     |      E o       |   measure    |    Reference to    |
+     |                |   (double)   |        next        |
+     |________________|______________|____________________|
+     *
+     * The measure of the entry is stored next to it, so that it can be taken out of the aggregates when the entry is
+     overwritten without measuring the entry again.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private static class RingBufferLinkedListElement<E>
+    {
+        // instance variables
+        private E element;                                              // stores the entry
+        private double measure;                                         // measure of the entry
+        private RingBufferLinkedListElement<E> next = this;             // reference to the next element
+    }
+
+    /**
+     * A queue of (sequence, value) pairs kept in two preallocated arrays used as a ring. The values are monotonic from
+     the head to the back, so that the head is always the minimum(or the maximum) of the window.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private static class MonotonicQueue
+    {
+        // instance variables
+        private final long[] sequences;                                 // sequence of the entry each value comes from
+        private final double[] values;                                  // the candidate values
+        private final boolean max;                                      // keeps the maximum if true, the minimum otherwise
+        private int head = 0, count = 0;                                // position of the head and number of pairs
+
+        /**
+         * Creates an empty queue.
+         * @param capacity  the size of the window.
+         * @param max  true to keep the maximum of the window, false to keep its minimum.
+         */
+        private MonotonicQueue(int capacity, boolean max){
+            sequences = new long[capacity];
+            values = new double[capacity];
+            this.max = max;
+        }
+
+        /**
+         * Adds the value of a new entry, dropping every value it makes useless.
+         * @param sequence  the sequence of the entry.
+         * @param value  its measure.
+         */
+        private void push(long sequence, double value){
+            while(count > 0){
+                double back = values[(head + count - 1)%values.length];
+                if(max ? back > value : back < value) break;
+                count--;                                                // can never be the answer again
+            }
+            int i = (head + count)%values.length;
+            sequences[i] = sequence;
+            values[i] = value;
+            count++;
+        }
+
+        /**
+         * Drops the value of an entry that left the window, if it is still in the queue.
+         * @param sequence  the sequence of that entry.
+         */
+        private void expire(long sequence){
+            if(count > 0 && sequences[head] == sequence){
+                head = (head + 1)%values.length;
+                count--;
+            }
+        }
+
+        /**
+         * @return the value at the head of the queue.
+         */
+        private double peek(){
+            if(count == 0) throw new NoSuchElementException();
+            return values[head];
+        }
+
+        /**
+         * Empties the queue.
+         */
+        private void clear(){
+            head = 0;
+            count = 0;
+        }
+    }
+
+    /**
+     * Creates an empty list holding at most capacity entries, without aggregates.
+     * @param capacity  the number of entries kept.
+     */
+    public RingBufferLinkedList(int capacity){
+        this(capacity, null);
+    }
+
+    /**
+     * Creates an empty list holding at most capacity entries and keeping the aggregates of their measures.
+     * @param capacity  the number of entries kept.
+     * @param measure  the function turning every entry into the value aggregated by sum(), average(), min() and max().
+     */
+    public RingBufferLinkedList(int capacity, ToDoubleFunction<? super E> measure){
+        if(capacity < 1) throw new IllegalArgumentException("capacity must be positive");
+        this.capacity = capacity;
+        this.measure = measure;
+        RingBufferLinkedListElement<E> first = new RingBufferLinkedListElement<E>(), last = first;
+        for(int i = 1; i < capacity; i++){                              // preallocating the whole cycle
+            RingBufferLinkedListElement<E> e = new RingBufferLinkedListElement<E>();
+            last.next = e;
+            last = e;
+        }
+        last.next = first;
+        oldest = first;
+        newest = last;                                                  // the first add(E) moves it to first
+        minQueue = measure == null ? null : new MonotonicQueue(capacity, false);
+        maxQueue = measure == null ? null : new MonotonicQueue(capacity, true);
+    }
+
+    /**
+     * @return the number of entries held.
+     */
+    public int size(){
+        return length;
+    }
+
+    /**
+     * @return the largest number of entries the list can hold.
+     */
+    public int capacity(){
+        return capacity;
+    }
+
+    /**
+     * @return true if the next add(E) will overwrite the oldest entry.
+     */
+    public boolean isFull(){
+        return length == capacity;
+    }
+
+    /**
+     * Adds an entry after the newest one. When the list is full the entry takes the place of the oldest one, which
+     leaves the window.
+     * @param o  the entry to be added.
+     * @return the entry that has been overwritten, null if the list was not full.
+     */
+    public E add(E o){
+        E ret = null;
+        if(length == capacity){                                         // the oldest entry leaves the window
+            ret = oldest.element;
+            if(measure != null) leave(oldest);
+            oldest = oldest.next;
+        } else{
+            length++;
+        }
+        newest = newest.next;
+        newest.element = o;
+        if(measure != null){
+            double value = measure.applyAsDouble(o);
+            newest.measure = value;
+            accumulate(value);
+            minQueue.push(added, value);
+            maxQueue.push(added, value);
+        }
+        added++;
+        modCount++;
+        return ret;
+    }
+
+    /**
+     * Removes the oldest entry.
+     * @return the removed entry.
+     */
+    public E removeOldest(){
+        if(length == 0) throw new NoSuchElementException();
+        E ret = oldest.element;
+        if(measure != null) leave(oldest);
+        oldest.element = null;                                          // the entry must not be kept alive by the cycle
+        oldest = oldest.next;
+        length--;
+        if(length == 0) sum = compensation = 0;                         // no rounding error is left over
+        modCount++;
+        return ret;
+    }
+
+    /**
+     * @return the entry added last.
+     */
+    public E newest(){
+        if(length == 0) throw new NoSuchElementException();
+        return newest.element;
+    }
+
+    /**
+     * @return the oldest entry still held.
+     */
+    public E oldest(){
+        if(length == 0) throw new NoSuchElementException();
+        return oldest.element;
+    }
+
+    /**
+     * @param index  the index of the entry to be retrieved, 0 being the oldest and -1 the newest.
+     * @return the entry at the specified index.
+     */
+    public E getElement(int index) throws ListIndexOutOfBoundsException{
+        if(index >= length || index < -length) throw new ListIndexOutOfBoundsException();
+        index = (index + length)%length;
+        if(index == length - 1) return newest.element;
+        RingBufferLinkedListElement<E> e = oldest;
+        for(int i = 0; i < index; i++) e = e.next;
+        return e.element;
+    }
+
+    /**
+     * Removes every entry; the elements of the cycle are kept for later additions.
+     */
+    public void clear(){
+        RingBufferLinkedListElement<E> e = oldest;
+        for(int i = 0; i < length; i++, e = e.next) e.element = null;
+        oldest = newest.next;                                           // the next add(E) starts there
+        length = 0;
+        sum = 0;
+        compensation = 0;
+        if(measure != null){
+            minQueue.clear();
+            maxQueue.clear();
+        }
+        modCount++;
+    }
+
+    /**
+     * @return the sum of the measures of the entries held, 0 if there is none.
+     */
+    public double sum(){
+        checkMeasure();
+        return sum + compensation;
+    }
+
+    /**
+     * @return the average of the measures of the entries held, NaN if there is none.
+     */
+    public double average(){
+        checkMeasure();
+        return length == 0 ? Double.NaN : (sum + compensation)/length;
+    }
+
+    /**
+     * @return the smallest measure of the entries held.
+     */
+    public double min(){
+        checkMeasure();
+        return minQueue.peek();
+    }
+
+    /**
+     * @return the largest measure of the entries held.
+     */
+    public double max(){
+        checkMeasure();
+        return maxQueue.peek();
+    }
+
+    /**
+     * @return an Iterator over the entries from the oldest to the newest one, failing fast on concurrent modification.
+     */
+    @Override
+    public Iterator<E> iterator(){
+        return new RingBufferLinkedListIterator();
+    }
+
+    /**
+     * @return the String representation of the entries from the oldest to the newest in format "[ ob1.toString(), ob2.toString ... ]"
+     */
+    @Override
+    public String toString(){
+        StringBuilder ret = new StringBuilder("[ ");
+        RingBufferLinkedListElement<E> e = oldest;
+        for(int i = 0; i < length; i++, e = e.next){
+            if(i > 0) ret.append(", ");
+            ret.append(e.element);
+        }
+        return ret.append(" ]").toString();
+    }
+
+    /**
+     * The Iterator returned by iterator(). It walks the cycle from the oldest element and fails fast once the list has
+     been modified by anything else.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private class RingBufferLinkedListIterator implements Iterator<E>
+    {
+        // instance variables
+        private RingBufferLinkedListElement<E> next = oldest;           // the element returned by the next call to next()
+        private int remaining = length;                                 // the number of entries not returned yet
+        private final int expectedModCount = modCount;                  // modCount of the list the iterator is in sync with
+
+        @Override
+        public boolean hasNext(){
+            return remaining > 0;
+        }
+
+        @Override
+        public E next(){
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(remaining == 0) throw new NoSuchElementException();
+            E ret = next.element;
+            next = next.next;
+            remaining--;
+            return ret;
+        }
+    }
+
+    /**
+     * Takes the oldest entry out of the aggregates.
+     * @param e  the element of the oldest entry.
+     */
+    private void leave(RingBufferLinkedListElement<E> e){
+        accumulate(-e.measure);
+        long sequence = added - length;
+        minQueue.expire(sequence);
+        maxQueue.expire(sequence);
+    }
+
+    /**
+     * Adds a value to the sum, keeping the rounding error in compensation(Kahan-Babuska summation) so that a window
+     slid over millions of entries does not drift.
+     * @param value  the value to be added.
+     */
+    private void accumulate(double value){
+        double t = sum + value;
+        if(Math.abs(sum) >= Math.abs(value)) compensation += (sum - t) + value;
+        else compensation += (value - t) + sum;
+        sum = t;
+    }
+
+    /**
+     * Makes sure that the list has been created with a measure.
+     */
+    private void checkMeasure(){
+        if(measure == null) throw new IllegalStateException("the list has been created without a measure");
+    }
+}
@@ -0,0 +1,39 @@
+package anon.data_structures;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * The JFR event committed by ListStatistics for every operation that took at least the slow threshold. It shows up in
+ a flight recording(e.g. java -XX:StartFlightRecording ...) under Data Structures, with the list class, the operation,
+ its duration and how many elements it walked over.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+@Name("anon.data_structures.SlowListOperation")
+@Label("Slow List Operation")
+@Category("Data Structures")
+@Description("A list operation that took at least the slow threshold of ListStatistics")
+final class SlowListOperationEvent extends jdk.jfr.Event
+{
+    // instance variables
+    @Label("List")
+    String list;                                // simple name of the list class
+
+    @Label("Operation")
+    String operation;                           // name of the operation
+
+    @Label("Operation Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long nanos;                                 // measured by the list, the event itself is committed afterwards
+
+    @Label("Nodes Traversed")
+    long nodesTraversed;                        // elements walked over
+
+    @Label("Size")
+    int size;                                   // number of elements in the list
+}
@@ -0,0 +1,188 @@
+package anon.data_structures;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * This class defines a thread-safe list whose readers work on snapshots: snapshot() returns, in O(1), a
+ PersistentLinkedList holding the entries as they are at that moment, which never changes afterwards however the list is
+ modified.
+ *
+ * The list is a volatile reference to the current PersistentLinkedList:
+ *
+ * - writes take a lock, derive the next version from the current one and publish it. Only the O(log n) elements on the
+ path to the change are copied, all the others are shared with the older versions.
+ * - reads(getElement(int), size(), toString(), iterator(), snapshot()) read the reference once and never lock, block or
+ retry. A version is immutable, so a reader walking it cannot observe a write in progress.
+ *
+ * Holding on to a snapshot therefore costs only the elements copied by the writes that happened since it was taken,
+ instead of a copy of the whole list.
+ *
+ * Just like most other data-structures, the indexing begins from 0.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public class SnapshotBidirectionalLinkedList<E> implements Iterable<E>
+{
+    // instance variables
+    private volatile PersistentLinkedList<E> current = PersistentLinkedList.empty();  // the latest version
+    private final ReentrantLock lock = new ReentrantLock();                          // serializes the writes
+
+    /**
+     * The no-arg constructor to create an empty list.
+     */
+    public SnapshotBidirectionalLinkedList(){
+
+    }
+
+    /**
+     * This constructor creates a new list with only one element that is being passed as argument.
+     * @param o The element to be contained in the list.
+     */
+    public SnapshotBidirectionalLinkedList(E o){
+        current = current.add(o);
+    }
+
+    /**
+     * @return an immutable view of the entries as they are now, taken in O(1).
+     */
+    public PersistentLinkedList<E> snapshot(){
+        return current;
+    }
+
+    /**
+     * @return the number of elements in the list.
+     */
+    public int size(){
+        return current.size();
+    }
+
+    /**
+     * @param index  the index of the element to be retrieved.
+     * @return the entry contained at the element at the specified index.
+     */
+    public E getElement(int index) throws ListIndexOutOfBoundsException{
+        return current.getElement(index);
+    }
+
+    /**
+     * This method adds an element at the end of the list.
+     * @param o  the entry to be added to the new element.
+     */
+    public void add(E o){
+        lock.lock();
+        try{
+            current = current.add(o);
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds all the entries of c at the end of the list, in a single new version.
+     * @param c  the entries to be added, in their iteration order.
+     */
+    public void addAll(Collection<? extends E> c){
+        lock.lock();
+        try{
+            current = current.addAll(c);
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * This method adds a new element in the MIDDLE(not the end) of the list such that the new element has <index> = index
+     * @param index  the index value of the new element.
+     * @param o  entry to be contained in the new element
+     */
+    public void add(E o, int index) throws ListIndexOutOfBoundsException{
+        lock.lock();
+        try{
+            current = current.add(o, index);
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element at index <index> in the list.
+     * @param index  the index of the element which has to be removed.
+     */
+    public void remove(int index) throws ListIndexOutOfBoundsException{
+        lock.lock();
+        try{
+            current = current.remove(index);
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the elements from index from(inclusive) to index to(exclusive), in a single new version.
+     * @param from  the index of the first element to be removed.
+     * @param to  the index after the last element to be removed.
+     */
+    public void removeRange(int from, int to) throws ListIndexOutOfBoundsException{
+        lock.lock();
+        try{
+            current = current.removeRange(from, to);
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * This method updates the entry in the element at index <index> and sets it to the passed argument.
+     * @param o  the new entry
+     * @param index  the index of the element to be updated
+     */
+    public void setEntry(E o, int index) throws ListIndexOutOfBoundsException{
+        lock.lock();
+        try{
+            current = current.setEntry(o, index);
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all the elements. The snapshots taken before keep their entries.
+     */
+    public void clear(){
+        lock.lock();
+        try{
+            current = PersistentLinkedList.empty();
+        } finally{
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return an iterator over a snapshot of the list, unaffected by later writes.
+     */
+    @Override
+    public Iterator<E> iterator(){
+        return current.iterator();
+    }
+
+    /**
+     * Passes every entry of a snapshot of the list, from the first to the last one, to the action.
+     * @param action  the action to be performed on each entry.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action){
+        current.forEach(action);
+    }
+
+    /**
+     * @return the String representation of the entries stored in the list in format "[ ob1.toString(), ob2.toString ... ]"
+     */
+    @Override
+    public String toString(){
+        return current.toString();
+    }
+}
@@ -0,0 +1,204 @@
+package anon.data_structures;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * This class defines a thread-safe BidirectionalLinkedList for workloads where reads by far outnumber writes. Every
+ method of the list is guarded by a StampedLock:
+ *
+ * - reads(getElement(int), size(), toString()) first run optimistically, without taking the lock at all, and only
+ keep their result if no write happened meanwhile. Only when a write interfered they run again under the read lock.
+ Readers therefore never block each other and do not even write to a shared cache line.
+ * - writes take the lock exclusively. addAll(...) and removeRange(int, int) apply many changes under a single
+ acquisition of the lock.
+ *
+ * forEach(Consumer) runs under the read lock, since the side effects of the action cannot be undone and retried.
+ *
+ * Just like most other data-structures, the indexing begins from 0.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public class StampedBidirectionalLinkedList<E>
+{
+    // instance variables
+    private final BidirectionalLinkedList<E> list = new BidirectionalLinkedList<E>();  // the guarded list
+    private final StampedLock lock = new StampedLock();                              // guards list
+
+    /**
+     * The no-arg constructor to create an empty list.
+     */
+    public StampedBidirectionalLinkedList(){
+
+    }
+
+    /**
+     * This constructor creates a new list with only one element that is being passed as argument.
+     * @param o The element to be contained in the list.
+     */
+    public StampedBidirectionalLinkedList(E o){
+        list.add(o);
+    }
+
+    /**
+     * @return the number of elements in the list.
+     */
+    public int size(){
+        return read(list::size);
+    }
+
+    /**
+     * @param index  the index of the element to be retrieved.
+     * @return the entry contained at the element at the specified index.
+     */
+    public E getElement(int index) throws ListIndexOutOfBoundsException{
+        return read(() -> list.getElement(index));
+    }
+
+    /**
+     * This method adds an element at the end of the list.
+     * @param o  the entry to be added to the new element.
+     */
+    public void add(E o){
+        long stamp = lock.writeLock();
+        try{
+            list.add(o);
+        } finally{
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds all the entries of c at the end of the list, under a single acquisition of the lock.
+     * @param c  the entries to be added, in their iteration order.
+     */
+    public void addAll(Collection<? extends E> c){
+        long stamp = lock.writeLock();
+        try{
+            list.addAll(c);
+        } finally{
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * This method adds a new element in the MIDDLE(not the end) of the list such that the new element has <index> = index
+     * @param index  the index value of the new element.
+     * @param o  entry to be contained in the new element
+     */
+    public void add(E o, int index) throws ListIndexOutOfBoundsException{
+        long stamp = lock.writeLock();
+        try{
+            list.add(o, index);
+        } finally{
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the element at index <index> in the list.
+     * @param index  the index of the element which has to be removed.
+     */
+    public void remove(int index) throws ListIndexOutOfBoundsException{
+        long stamp = lock.writeLock();
+        try{
+            list.remove(index);
+        } finally{
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the elements from index from(inclusive) to index to(exclusive), under a single acquisition of the lock.
+     * @param from  the index of the first element to be removed.
+     * @param to  the index after the last element to be removed.
+     */
+    public void removeRange(int from, int to) throws ListIndexOutOfBoundsException{
+        long stamp = lock.writeLock();
+        try{
+            list.removeRange(from, to);
+        } finally{
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Sorts the list in place, see BidirectionalLinkedList.sort(Comparator), under a single acquisition of the lock.
+     * @param c  the comparator, null to sort Comparable entries by their natural ordering.
+     */
+    public void sort(Comparator<? super E> c){
+        long stamp = lock.writeLock();
+        try{
+            list.sort(c);
+        } finally{
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * This method updates the entry in the element at index <index> and sets it to the passed argument.
+     * @param o  the new entry
+     * @param index  the index of the element to be updated
+     */
+    public void setEntry(E o, int index) throws ListIndexOutOfBoundsException{
+        long stamp = lock.writeLock();
+        try{
+            list.setEntry(o, index);
+        } finally{
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Passes every entry, from the first to the last one, to the action while holding the read lock.
+     * @param action  the action to be performed on each entry.
+     */
+    public void forEach(Consumer<? super E> action){
+        long stamp = lock.readLock();
+        try{
+            BidirectionalLinkedList<E>.Cursor c = list.cursor();
+            for(int i = 0; i < list.size(); i++, c.next()){
+                action.accept(c.get());
+            }
+        } finally{
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return the String representation of the entries stored in the list in format "[ ob1.toString(), ob2.toString ... ]"
+     */
+    @Override
+    public String toString(){
+        return read(list::toString);
+    }
+
+    /**
+     * Runs a read of the list optimistically and validates it; if a write interfered, the read runs again under the
+     read lock. A read running while a write is in progress may see a broken list and fail, such a failure is only
+     reported if it happens again under the read lock.
+     * @param reader  the read, which must have no side effects.
+     * @return the result of the read.
+     */
+    private <T> T read(Supplier<T> reader){
+        long stamp = lock.tryOptimisticRead();
+        if(stamp != 0L){
+            try{
+                T result = reader.get();
+                if(lock.validate(stamp)) return result;
+            } catch(RuntimeException e){
+                if(lock.validate(stamp)) throw e;                  // a genuine failure, not caused by a write
+            }
+        }
+        stamp = lock.readLock();
+        try{
+            return reader.get();
+        } finally{
+            lock.unlockRead(stamp);
+        }
+    }
+}
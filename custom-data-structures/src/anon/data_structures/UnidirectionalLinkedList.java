@@ -1,5 +1,32 @@
 package anon.data_structures;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * This is a class for the Linked List data-structure that supports only unidirectional, cyclic flow of control.
  cell1      cell2           cell1     cell2                                           cell1     cell2
@@ -19,13 +46,24 @@ package anon.data_structures;
  * @author saurabh000345
  * @since 1.0.1
  */
-public class UnidirectionalLinkedList<E>
+public class UnidirectionalLinkedList<E> implements Iterable<E>, Serializable
 {
+    // class variables
+    private static final long serialVersionUID = 1L;            // the serialized form is written by writeObject
+    private static final int PARALLEL_SORT_SEGMENT = 1 << 14;   // chains this short are sorted by a single task
+    private static final int MAX_PRESIZE = 1 << 20;             // toString() never presizes beyond this many chars
+    private static final ListStatistics STATISTICS = ListStatistics.register("UnidirectionalLinkedList");    // null unless ListStatistics.ENABLED
+
     // instance variables
-    private UnidirectionalLinkedListElement<E> top;             // the first element in the list
-    private UnidirectionalLinkedListElement<E> pointing;        // the element that the cursor is now on.
-    private UnidirectionalLinkedListElement<E> tail;            // the last element of the list
-    private int length = 0;                                     // total number of elements in the list
+    private transient UnidirectionalLinkedListElement<E> top;       // the first element in the list
+    private transient UnidirectionalLinkedListElement<E> pointing;  // the element that the cursor is now on.
+    private transient UnidirectionalLinkedListElement<E> tail;      // the last element of the list
+    private transient int length = 0;                               // total number of elements in the list
+    private transient int modCount = 0;                             // structural modifications, checked by the cursors
+    private transient UnidirectionalLinkedListElement<E> pool;      // removed elements kept for reuse, chained through cell2
+    private transient int pooled = 0;                               // number of elements in the pool
+    private int poolCapacity = 0;                                   // most elements the pool may hold, 0 disables recycling
+    private boolean compactSerialization = false;                   // entries serialized in the compact form
 
     /**
      * This class defines each of the element to be stored in the list.
@@ -37,17 +75,17 @@ public class UnidirectionalLinkedList<E>
      |______________|____________________________________________|
      *
      * cell1 stores the data while cell2 stores the reference to the next element in the list.
-     * Each instance stores its index and indexing begins from 0.
+     * The class is static and holds no index: an element is just its two cells, positions are found by walking the
+     list.
      *
      * @author saurabh000345
      * @since 1.0.1
      */
-    private class UnidirectionalLinkedListElement<E>
+    private static class UnidirectionalLinkedListElement<E>
     {
         // instance variables
         private E cell1;                                            // to store the data
         private UnidirectionalLinkedListElement<E> cell2;           // to store the reference to the next element
-        public int index = 0;
 
         /**
          * This constructor creates a new element storing data of type E.
@@ -59,34 +97,21 @@ public class UnidirectionalLinkedList<E>
         }
 
         /**
-         * This constructor creates a new element and assigns an index to it.
-         * @param o  the element to be stored.
-         * @param index  the index of this UnidirectionalLinkedListElement.
+         * This method adds the reference of a new UnidirectionalLinkedListElement to the current Element. It manages all
+         configuration like maintaining the cyclic linking by correctly assigning the next reference of the new Element
+         as that of the first element in the list.
+         * @param e  the element to be added
          */
-        private UnidirectionalLinkedListElement(E o, int index){
-            this(o);
-            this.index = index;
-        }
-
-        /**
-         * This method creates a new UnidirectionalLinkedListElement and adds its reference to the current Element. It
-         manages all configuration like maintaining the cyclic linking by correctly assigning the next reference of the
-         newly created Element as that of the first element in the list.
-         * @param o  the element to be added
-         */
-        private void addElement(E o){
-            UnidirectionalLinkedListElement e = new UnidirectionalLinkedListElement(o, index + 1);      // new element created with the correct index
+        private void addElement(UnidirectionalLinkedListElement<E> e){
             e.setRef(cell2);                // the reference of to the currently next element(before adding the element) is passed over to the new element.
             cell2 = e;                      // the element is added to the list. this refers to the new element.
         }
 
         /**
          * This method removes the next element from reference, effectually removing it from the list.
-         * The task of changing the index values of the constituent elements is managed in the container class.
          */
         private void removeNextElement(){
             cell2 = next().next();
-            int index = this.index;
         }
 
         /**
@@ -105,21 +130,6 @@ public class UnidirectionalLinkedList<E>
             cell2 = e;
         }
 
-        /**
-         * This method updates the index value of the current element.
-         * @param index  the new index value.
-         */
-        private void setIndex(int index){
-            this.index = index;
-        }
-
-        /**
-         * @return the index value of the invoking element.
-         */
-        private int getIndex(){
-            return index;
-        }
-
         /**
          * @return the reference(AND NOT THE CLONE!!) of the entry stored in the invoking element.
          */
@@ -157,19 +167,29 @@ public class UnidirectionalLinkedList<E>
      * @param o The element to be contained in the list.
      */
     public UnidirectionalLinkedList(E o){
-        top = new UnidirectionalLinkedListElement(o);   // if there is only one element in the list, it is the first and last element.
+        top = newElement(o);                            // if there is only one element in the list, it is the first and last element.
         pointing = top;                                 // the pointer will be pointing to the first element
         tail = top;
         length++;                                       // updating the size of the list.
     }
 
+    /**
+     * @return the number of elements in the list.
+     */
+    public int size(){
+        return length;
+    }
+
 
     /**
      * @param index  the index of the element to be retrieved.
      * @return the entry contained at the element at the specified index.
      */
     public E getElement(int index) throws ListIndexOutOfBoundsException{
-        return  get(index).getRefEntry();
+        long start = ListStatistics.ENABLED ? System.nanoTime() : 0L;
+        E o = get(index).getRefEntry();
+        if(ListStatistics.ENABLED) STATISTICS.record(ListStatistics.Operation.GET, start, walked(index, length), length);
+        return o;
     }
 
     /**
@@ -180,9 +200,10 @@ public class UnidirectionalLinkedList<E>
      * If you want to get the entry E at the specifiedIndex, use getElement(int) method instead.
      */
     public UnidirectionalLinkedListElement<E> get(int index) throws ListIndexOutOfBoundsException{
-        if(index >= length) throw new ListIndexOutOfBoundsException();          // if the index is out of bounds.
+        if(index >= length || index < -length) throw new ListIndexOutOfBoundsException();  // if the index is out of bounds.
         index = (index + length)%length;                                        // this will enable users to pass
         //negative values.... I have used it in other methods too...
+        if(index == length - 1) return tail;                                    // no need to walk to the last element
         UnidirectionalLinkedListElement<E> pointing = top;                      // sets pointing to the first element.
         // this is the local variable and must not be confused with the instance variable
         for(int i = 0; i < index; i++){
@@ -191,6 +212,190 @@ public class UnidirectionalLinkedList<E>
         return pointing;
     }
 
+    /**
+     * Finds the element linking to the one at the given index, which is all that an edit at that index needs.
+     * @param index  the index of an element, negative values are counted from the end of the list.
+     * @return the element before it, the last element for index 0.
+     */
+    private UnidirectionalLinkedListElement<E> before(int index) throws ListIndexOutOfBoundsException{
+        if(index >= length || index < -length) throw new ListIndexOutOfBoundsException();
+        index = (index + length)%length;
+        return index == 0 ? tail : get(index - 1);
+    }
+
+    /**
+     * @param index  an index accepted by get(int), negative values are counted from the end of the list.
+     * @param size  the size of the list when it was walked.
+     * @return the number of elements get(int) walks over to reach the element at index.
+     */
+    private static int walked(int index, int size){
+        index = (index + size)%size;
+        return index == size - 1 ? 0 : index;
+    }
+
+    /**
+     * @param index  an index accepted by before(int), negative values are counted from the end of the list.
+     * @param size  the size of the list when it was walked.
+     * @return the number of elements before(int) walks over to reach the element before index.
+     */
+    private static int walkedBefore(int index, int size){
+        index = (index + size)%size;
+        return index == 0 ? 0 : walked(index - 1, size);
+    }
+
+    /**
+     * Creates an element holding o, taking it from the pool when there is one available.
+     * @param o  the entry to be stored.
+     * @return an element linked to itself only.
+     */
+    private UnidirectionalLinkedListElement<E> newElement(E o){
+        if(pool == null){
+            if(ListStatistics.ENABLED) STATISTICS.allocated();
+            return new UnidirectionalLinkedListElement<E>(o);
+        }
+        if(ListStatistics.ENABLED) STATISTICS.recycled();
+        UnidirectionalLinkedListElement<E> e = pool;
+        pool = e.next();
+        pooled--;
+        e.setEntry(o);
+        e.setRef(e);
+        return e;
+    }
+
+    /**
+     * Hands an unlinked element back to the pool, unless the pool is full.
+     * @param e  the element, which must not be reachable from the list any more.
+     */
+    private void recycle(UnidirectionalLinkedListElement<E> e){
+        recycle(e, 1);
+    }
+
+    /**
+     * Hands a run of unlinked elements back to the pool, as many as it still has room for.
+     * @param first  the first element of the run, which must not be reachable from the list any more.
+     * @param count  the number of elements in the run.
+     */
+    private void recycle(UnidirectionalLinkedListElement<E> first, int count){
+        for(UnidirectionalLinkedListElement<E> e = first; count > 0 && pooled < poolCapacity; count--){
+            UnidirectionalLinkedListElement<E> next = e.next();
+            e.setEntry(null);                   // the entry must not be kept alive by the pool
+            e.setRef(pool);
+            pool = e;
+            pooled++;
+            e = next;
+        }
+    }
+
+    /**
+     * Forgets every element without recycling them, as they now belong to another list.
+     */
+    private void detach(){
+        top = null;
+        tail = null;
+        pointing = null;
+        length = 0;
+        modCount++;
+    }
+
+    /**
+     * Sorts a chain ending with null with a bottom-up merge sort that works like a binary counter: the elements are
+     taken one by one from the front of the chain, and bins[i] holds either nothing or a sorted run of 2^i elements.
+     A new element carries into the bins the way 1 is added to a binary number, merging equal sized runs as it goes.
+     Merging this way, depth first, handles every small run while its elements are still in the cache, where
+     merging the whole chain level by level walks all of it once per level. 32 bins are enough for any int length.
+     * @param list  the first element of the chain.
+     * @param c  the comparator.
+     * @return the first element of the sorted chain, which ends with null too.
+     */
+    @SuppressWarnings("unchecked")
+    private UnidirectionalLinkedListElement<E> mergeSort(UnidirectionalLinkedListElement<E> list, Comparator<? super E> c){
+        Object[] bins = new Object[32];
+        int used = 0;                                           // bins at and above this one are empty
+        while(list != null){
+            UnidirectionalLinkedListElement<E> run = list;
+            list = list.next();
+            run.setRef(null);
+            int i = 0;
+            for(; bins[i] != null; i++){                        // the bins hold earlier elements, they come first on ties
+                run = merge((UnidirectionalLinkedListElement<E>)bins[i], run, c);
+                bins[i] = null;
+            }
+            bins[i] = run;
+            if(i >= used) used = i + 1;
+        }
+        UnidirectionalLinkedListElement<E> ret = null;
+        for(int i = 0; i < used; i++){
+            if(bins[i] != null) ret = ret == null ? (UnidirectionalLinkedListElement<E>)bins[i] : merge((UnidirectionalLinkedListElement<E>)bins[i], ret, c);
+        }
+        return ret;
+    }
+
+    /**
+     * Merges two sorted chains ending with null.
+     * @param a  the first element of the first chain, whose elements come first on ties.
+     * @param b  the first element of the second chain.
+     * @param c  the comparator.
+     * @return the first element of the merged chain.
+     */
+    private UnidirectionalLinkedListElement<E> merge(UnidirectionalLinkedListElement<E> a, UnidirectionalLinkedListElement<E> b,
+                                                     Comparator<? super E> c){
+        UnidirectionalLinkedListElement<E> first = null, last = null;
+        while(a != null && b != null){
+            UnidirectionalLinkedListElement<E> e;
+            if(c.compare(a.getRefEntry(), b.getRefEntry()) <= 0){
+                e = a;
+                a = a.next();
+            } else{
+                e = b;
+                b = b.next();
+            }
+            if(last == null) first = e;
+            else if(last.next() != e) last.setRef(e);                // elements taken in a row are linked already
+            last = e;
+        }
+        UnidirectionalLinkedListElement<E> rest = a != null ? a : b;
+        if(last == null) return rest;
+        if(last.next() != rest) last.setRef(rest);
+        return first;
+    }
+
+    /**
+     * Turns a sorted chain ending with null back into the cycle: restores top and tail.
+     * @param first  the first element of the chain.
+     */
+    private void relinkSorted(UnidirectionalLinkedListElement<E> first){
+        UnidirectionalLinkedListElement<E> e = first;
+        while(e.next() != null) e = e.next();
+        top = first;
+        tail = e;
+        tail.setRef(top);
+        modCount++;
+    }
+
+    /**
+     * Links a chain of elements, already linked to each other from first to last, right after the element before and
+     closes the cycle. This is the single step shared by all the bulk operations.
+     * @param before  the element that will precede the chain, null if the list is empty.
+     * @param first  the first element of the chain.
+     * @param last  the last element of the chain.
+     * @param count  the number of elements in the chain.
+     */
+    private void linkChain(UnidirectionalLinkedListElement<E> before, UnidirectionalLinkedListElement<E> first,
+                           UnidirectionalLinkedListElement<E> last, int count){
+        if(length == 0){                        // the chain becomes the whole list
+            top = first;
+            tail = last;
+            pointing = first;
+            last.setRef(first);
+        } else{
+            last.setRef(before.next());
+            before.setRef(first);
+            if(before == tail) tail = last;
+        }
+        length += count;
+        modCount++;
+    }
+
     /**
      * This method adds an element at the end of the list.
      * @param o  the entry to be added to the new element.
@@ -198,14 +403,15 @@ public class UnidirectionalLinkedList<E>
     public void add(E o){
         if(length == 0){                                            // if the list if empty, tail will have null so a
             //different approach is needed
-            top = new UnidirectionalLinkedListElement<E>(o);        // mechanism used in the single argument constructor.
+            top = newElement(o);                                    // mechanism used in the single argument constructor.
             tail = top;
             pointing = top;
         } else{
-            tail.addElement(o);
+            tail.addElement(newElement(o));
             tail = tail.next();                                     // tail is being updated
         }
         length++;                                                   // size is updated
+        modCount++;
     }
 
     /**
@@ -214,27 +420,36 @@ public class UnidirectionalLinkedList<E>
      * @param o  entry to be contained in the new element
      */
     public void add(E o, int index) throws ListIndexOutOfBoundsException{
-        if(index >= length) throw new ListIndexOutOfBoundsException();
-        UnidirectionalLinkedListElement<E> point = get(index);      // current element at index <index>
-        get(index - 1).addElement(o);                               // new element added at index <index>
-        point.setIndex(index + 1);                                  // index of point updated
-        while(point.getIndex() < length){                           // updating the index values of the other objects
-            point.setIndex(point.getIndex() + 1);
-            point = point.next();
-        }
+        long start = ListStatistics.ENABLED ? System.nanoTime() : 0L;
+        UnidirectionalLinkedListElement<E> before = before(index);  // the element before index <index>
+        before.addElement(newElement(o));                           // new element added at index <index>
+        if(before == tail) top = tail.next();                       // added in front of the first element
         length++;                                                   // incrementing the size of the list
+        modCount++;
+        if(ListStatistics.ENABLED) STATISTICS.record(ListStatistics.Operation.INSERT, start, walkedBefore(index, length - 1), length);
     }
 
     /**
      * Removes the element at index <index> in the list.
      * @param index  the index of the element which has to be removed.
      */
-    public void remove(int index){
-        get(index - 1).removeNextElement();
-        for(int i = index + 1; i < length; i++){            // updating the index values of the other elements.
-            get(i).setIndex(i - 1);
+    public void remove(int index) throws ListIndexOutOfBoundsException{
+        long start = ListStatistics.ENABLED ? System.nanoTime() : 0L;
+        UnidirectionalLinkedListElement<E> before = before(index), e = before.next();
+        if(length == 1){                                    // the list gets empty
+            top = null;
+            tail = null;
+            pointing = null;
+        } else{
+            before.removeNextElement();
+            if(e == top) top = e.next();
+            if(e == tail) tail = before;
+            if(e == pointing) pointing = e.next();
         }
         length--;                                           // decrementing the size of the list
+        modCount++;
+        recycle(e);
+        if(ListStatistics.ENABLED) STATISTICS.record(ListStatistics.Operation.REMOVE, start, walkedBefore(index, length + 1), length);
     }
 
     /**
@@ -251,7 +466,196 @@ public class UnidirectionalLinkedList<E>
      * @param index  the index of the element to be updated
      */
     public void setEntry(E o, int index){
+        long start = ListStatistics.ENABLED ? System.nanoTime() : 0L;
         get(index).setEntry(o);
+        if(ListStatistics.ENABLED) STATISTICS.record(ListStatistics.Operation.SET, start, walked(index, length), length);
+    }
+
+    /**
+     * Adds the entries of the array at the end of the list, in their order.
+     * @param a  the entries to be added.
+     */
+    public void addAll(E[] a){
+        addAll(Arrays.asList(a));
+    }
+
+    /**
+     * Adds the entries of a Collection, or of any other Iterable such as another list, at the end of the list in the
+     order they are iterated. The new elements are linked to each other first and the whole chain is then hooked to the
+     tail at once.
+     * @param c  the entries to be added.
+     */
+    public void addAll(Iterable<? extends E> c){
+        UnidirectionalLinkedListElement<E> first = null, last = null;
+        int count = 0;
+        for(E o : c){
+            UnidirectionalLinkedListElement<E> e = newElement(o);
+            if(first == null){
+                first = e;
+            } else{
+                last.setRef(e);
+            }
+            last = e;
+            count++;
+        }
+        if(count > 0) linkChain(tail, first, last, count);
+    }
+
+    /**
+     * Moves every element of another list to the end of this one in O(1); the other list is left empty. Nothing is
+     copied, the two cycles are simply cut open and joined.
+     * @param list  the list whose elements are taken over.
+     */
+    public void concat(UnidirectionalLinkedList<E> list){
+        if(list == this) throw new IllegalArgumentException("a list cannot be concatenated to itself");
+        if(list.length == 0) return;
+        linkChain(tail, list.top, list.tail, list.length);
+        list.detach();
+    }
+
+    /**
+     * Moves every element of another list right after the element the pointer is on, in O(1); the other list is left
+     empty. On an empty list this is the same as concat(list).
+     * @param list  the list whose elements are taken over.
+     */
+    public void spliceAfter(UnidirectionalLinkedList<E> list){
+        if(list == this) throw new IllegalArgumentException("a list cannot be spliced into itself");
+        if(list.length == 0) return;
+        linkChain(pointing, list.top, list.tail, list.length);
+        list.detach();
+    }
+
+    /**
+     * Splits the list in two: the elements from index <index> onwards are moved to a new list, in O(1) once the element
+     before index <index> has been reached. The pointer of this list goes back to its first element.
+     * @param index  the index of the first element to be moved, between 0 and size().
+     * @return a new list holding the moved elements.
+     */
+    public UnidirectionalLinkedList<E> splitAt(int index) throws ListIndexOutOfBoundsException{
+        if(index > length || index < 0) throw new ListIndexOutOfBoundsException();
+        UnidirectionalLinkedList<E> ret = new UnidirectionalLinkedList<E>();
+        if(index == length) return ret;
+        if(index == 0){
+            ret.linkChain(null, top, tail, length);
+            detach();
+            return ret;
+        }
+        UnidirectionalLinkedListElement<E> before = get(index - 1), first = before.next(), last = tail;
+        before.setRef(top);                                     // closing the cycle of the elements that stay
+        tail = before;
+        pointing = top;
+        ret.linkChain(null, first, last, length - index);
+        length = index;
+        modCount++;
+        return ret;
+    }
+
+    /**
+     * Removes the elements from index <from>, inclusive, to index <to>, exclusive. The run is cut out of the cycle at
+     once, after the element before it and its last element have been reached. The pointer goes back to the first
+     element.
+     * @param from  the index of the first element to be removed.
+     * @param to  the index after the last element to be removed.
+     */
+    public void removeRange(int from, int to) throws ListIndexOutOfBoundsException{
+        if(from < 0 || to > length || from > to) throw new ListIndexOutOfBoundsException();
+        if(from == to) return;
+        if(to - from == length){                                // the list gets empty
+            clear();
+            return;
+        }
+        UnidirectionalLinkedListElement<E> before = from == 0 ? tail : get(from - 1), first = before.next(), last = before;
+        for(int i = from; i < to; i++) last = last.next();      // reaching the last element of the run
+        if(first == top) top = last.next();
+        if(last == tail) tail = before;
+        before.setRef(last.next());                             // removing the run from reference
+        pointing = top;
+        length -= to - from;
+        modCount++;
+        recycle(first, to - from);
+    }
+
+    /**
+     * Removes every element of the list.
+     */
+    public void clear(){
+        if(length > 0) recycle(top, length);
+        detach();
+    }
+
+    /**
+     * Sorts the list in place with a bottom-up merge sort, in O(n log n) comparisons and O(1) extra memory: the elements
+     are relinked, never copied, and nothing is allocated per element. The sort is stable; the pointer stays on the
+     element it was on.
+     *
+     * If the comparator throws, the exception is passed on once every element has been linked back into the list, in
+     an unspecified order.
+     * @param c  the comparator, null to sort Comparable entries by their natural ordering.
+     */
+    public void sort(Comparator<? super E> c){
+        if(length < 2) return;
+        GuardedComparator<E> comparator = new GuardedComparator<E>(c);
+        tail.setRef(null);                                   // the merges work on a chain ending with null
+        relinkSorted(mergeSort(top, comparator));
+        comparator.rethrow();
+    }
+
+    /**
+     * Sorts the list like sort(Comparator), but cuts it into segments that are sorted in parallel on the common
+     fork-join pool and then merged pairwise. Short lists, or a pool without parallelism, are sorted by sort(Comparator).
+     * @param c  the comparator, null to sort Comparable entries by their natural ordering.
+     */
+    public void parallelSort(Comparator<? super E> c){
+        if(length < 2*PARALLEL_SORT_SEGMENT || ForkJoinPool.getCommonPoolParallelism() < 2){
+            sort(c);
+            return;
+        }
+        GuardedComparator<E> comparator = new GuardedComparator<E>(c);
+        tail.setRef(null);
+        relinkSorted(ForkJoinPool.commonPool().invoke(new UnidirectionalLinkedListSorter(top, length, comparator)));
+        comparator.rethrow();
+    }
+
+    /**
+     * Turns recycling on or off. While the capacity is positive, the elements unlinked by remove(int), removeRange(int,
+     int), clear() and the cursors are kept, up to capacity of them, and handed out again by the methods adding
+     entries instead of allocating new ones. A list that keeps adding and removing entries then allocates nothing once
+     its pool has filled up. The pool is never shared with another list.
+     * @param capacity  the largest number of elements kept for reuse, 0 to drop the pool and stop recycling.
+     */
+    public void setPoolCapacity(int capacity){
+        if(capacity < 0) throw new IllegalArgumentException("capacity must not be negative");
+        poolCapacity = capacity;
+        while(pooled > capacity){               // handing the surplus to the garbage collector
+            pool = pool.next();
+            pooled--;
+        }
+        if(pooled == 0) pool = null;
+    }
+
+    /**
+     * @return the largest number of elements kept for reuse, 0 if recycling is off.
+     */
+    public int getPoolCapacity(){
+        return poolCapacity;
+    }
+
+    /**
+     * Chooses how the entries are serialized. By default every entry is written by ObjectOutputStream.writeObject(Object),
+     which costs a class descriptor and a handle per boxed number. In the compact form, the boxed primitives and Strings
+     are written as a tag byte followed by their raw bytes, e.g. 5 bytes per Integer, and other entries as before.
+     Either form is read back by any list, the choice is part of the serialized form and is kept by the copy.
+     * @param compact  true for the compact form, false for the default one.
+     */
+    public void setCompactSerialization(boolean compact){
+        compactSerialization = compact;
+    }
+
+    /**
+     * @return true if the entries are serialized in the compact form, see setCompactSerialization(boolean).
+     */
+    public boolean isCompactSerialization(){
+        return compactSerialization;
     }
 
     /**
@@ -263,14 +667,596 @@ public class UnidirectionalLinkedList<E>
     }
 
     /**
+     * Creates a new Cursor standing on the first element of the list. Any number of cursors can be used on the same list
+     independently of each other and of the pointer moved by next().
+     * @return a new Cursor over this list.
+     */
+    public Cursor cursor(){
+        return new Cursor(tail, top, 0);
+    }
+
+    /**
+     * Creates a new Cursor standing on the element at index <index>. Reaching that element walks the list once, every
+     later move or edit done through the cursor takes constant time.
+     * @param index  the index of the element the cursor will stand on.
+     * @return a new Cursor over this list.
+     */
+    public Cursor cursor(int index) throws ListIndexOutOfBoundsException{
+        UnidirectionalLinkedListElement<E> before = before(index);      // the previous one is needed to edit in O(1)
+        return new Cursor(before, before.next(), (index + length)%length);
+    }
+
+    /**
+     * A Cursor stands on one element of the list and moves forward along the cyclic links. Since the elements are only
+     linked to the next one, the cursor also remembers the element before its own; this lets it insert before or after
+     its element, replace it or remove it in O(1), without looking anything up by index.
+     *
+     * A cursor fails fast: once the list has been structurally modified by anything else than the cursor itself(the
+     list's own methods or another cursor) its methods throw a ConcurrentModificationException.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    public class Cursor
+    {
+        // instance variables
+        private UnidirectionalLinkedListElement<E> before;          // the element linking to the current one
+        private UnidirectionalLinkedListElement<E> current;         // the element the cursor stands on, null if the list is empty
+        private int index;                                          // index of the current element
+        private int expectedModCount = modCount;                    // modCount of the list the cursor is in sync with
+
+        /**
+         * Creates a cursor standing on the element e.
+         * @param before  the element linking to e.
+         * @param e  the element to stand on.
+         * @param index  the index of e.
+         */
+        private Cursor(UnidirectionalLinkedListElement<E> before, UnidirectionalLinkedListElement<E> e, int index){
+            this.before = before;
+            current = e;
+            this.index = index;
+        }
+
+        /**
+         * @return the entry stored in the element the cursor stands on.
+         */
+        public E get(){
+            checkElement();
+            return current.getRefEntry();
+        }
+
+        /**
+         * Replaces the entry stored in the element the cursor stands on.
+         * @param o  the new entry.
+         */
+        public void set(E o){
+            checkElement();
+            current.setEntry(o);
+        }
+
+        /**
+         * @return the index of the element the cursor stands on.
+         */
+        public int index(){
+            checkElement();
+            return index;
+        }
+
+        /**
+         * Moves the cursor to the next element; from the last element it moves back to the first one.
+         * @return the entry stored in the element the cursor moved to.
+         */
+        public E next(){
+            checkElement();
+            before = current;
+            current = current.next();
+            index = (index + 1)%length;
+            return current.getRefEntry();
+        }
+
+        /**
+         * Inserts a new element right before the one the cursor stands on, the cursor does not move. Inserting before
+         the first element makes the new element the first one. On an empty list the new element becomes the only one
+         and the cursor stands on it.
+         * @param o  the entry to be added.
+         */
+        public void insertBefore(E o){
+            checkForComodification();
+            if(current == null){
+                addFirstElement(o);
+                return;
+            }
+            before.addElement(newElement(o));
+            before = before.next();
+            if(current == top) top = before;
+            index++;
+            structurallyModified(1);
+        }
+
+        /**
+         * Inserts a new element right after the one the cursor stands on, the cursor does not move. Inserting after the
+         last element makes the new element the last one. On an empty list the new element becomes the only one and the
+         cursor stands on it.
+         * @param o  the entry to be added.
+         */
+        public void insertAfter(E o){
+            checkForComodification();
+            if(current == null){
+                addFirstElement(o);
+                return;
+            }
+            current.addElement(newElement(o));
+            if(current == tail) tail = current.next();
+            if(before == current) before = current.next();     // a single element was its own predecessor
+            structurallyModified(1);
+        }
+
+        /**
+         * Moves every element of another list right after the one the cursor stands on, in O(1); the cursor does not
+         move and the other list is left empty. On an empty list the cursor ends up on the first moved element.
+         * @param list  the list whose elements are taken over.
+         */
+        public void spliceAfter(UnidirectionalLinkedList<E> list){
+            checkForComodification();
+            if(list == UnidirectionalLinkedList.this) throw new IllegalArgumentException("a list cannot be spliced into itself");
+            if(list.length == 0) return;
+            UnidirectionalLinkedListElement<E> last = list.tail;
+            linkChain(current, list.top, last, list.length);
+            list.detach();
+            if(current == null){
+                before = tail;
+                current = top;
+                index = 0;
+            } else if(before == current){
+                before = last;                                  // a single element was its own predecessor
+            }
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Removes the element the cursor stands on and moves the cursor to the next one(to the first one if the last
+         element was removed).
+         */
+        public void remove(){
+            checkElement();
+            UnidirectionalLinkedListElement<E> e = current;
+            if(length == 1){                                    // the list gets empty
+                top = null;
+                tail = null;
+                pointing = null;
+                before = null;
+                current = null;
+            } else{
+                before.removeNextElement();
+                if(e == top) top = e.next();
+                if(e == tail){
+                    tail = before;
+                    index = 0;
+                }
+                if(e == pointing) pointing = e.next();
+                current = e.next();
+            }
+            structurallyModified(-1);
+            recycle(e);
+        }
+
+        /**
+         * Creates the only element of a list that is empty and places the cursor on it.
+         * @param o  the entry to be added.
+         */
+        private void addFirstElement(E o){
+            add(o);
+            before = top;
+            current = top;
+            index = 0;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Records a structural modification done through this cursor, in the list and in the cursor.
+         * @param delta  the change in the size of the list.
+         */
+        private void structurallyModified(int delta){
+            length += delta;
+            modCount++;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Makes sure that the list has not been modified behind the back of the cursor.
+         */
+        private void checkForComodification(){
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        /**
+         * Makes sure that the cursor is still valid and stands on an element.
+         */
+        private void checkElement(){
+            checkForComodification();
+            if(current == null) throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * @return an Iterator over the entries from the first to the last one, failing fast on concurrent modification.
+     */
+    @Override
+    public Iterator<E> iterator(){
+        return new UnidirectionalLinkedListIterator();
+    }
+
+    /**
+     * Creates a view of the elements from index from(inclusive) to index to(exclusive), see LinkedListView. The view
+     copies nothing: it is bounded by references to its first and last elements and reads the list itself. Reaching the two
+     boundary elements walks the list once, up to the last element of the view.
+     * @param from  the index of the first element of the view.
+     * @param to  the index after the last element of the view.
+     * @return a read-only view of that range, failing fast once the list is structurally modified.
+     */
+    public LinkedListView<E> subList(int from, int to) throws ListIndexOutOfBoundsException{
+        if(from < 0 || to > length || from > to) throw new ListIndexOutOfBoundsException();
+        if(from == to) return new UnidirectionalLinkedListView(null, null);
+        UnidirectionalLinkedListElement<E> first = get(from), last = tail;
+        if(to < length){                                            // walking on from the first element of the view
+            last = first;
+            for(int i = from + 1; i < to; i++) last = last.next();
+        }
+        return new UnidirectionalLinkedListView(first, last);
+    }
+
+    /**
+     * @return a read-only view of the whole list, created in O(1), to chain map, filter and limit on, see LinkedListView.
+     */
+    public LinkedListView<E> view(){
+        return new UnidirectionalLinkedListView(top, tail);
+    }
+
+    /**
+     * @return a Spliterator over the entries, see UnidirectionalLinkedListSpliterator.
+     */
+    @Override
+    public Spliterator<E> spliterator(){
+        return new UnidirectionalLinkedListSpliterator(top, length);
+    }
+
+    /**
+     * @return a sequential Stream over the entries of the list.
+     */
+    public Stream<E> stream(){
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return a parallel Stream over the entries of the list, splitting the list itself without copying it.
+     */
+    public Stream<E> parallelStream(){
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * The view returned by subList(int, int) and view(): the run of elements from first to last, both included, walked
+     along the links of the list.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private class UnidirectionalLinkedListView extends LinkedListView<E>
+    {
+        // instance variables
+        private final UnidirectionalLinkedListElement<E> first, last;   // ends of the run, both null if it is empty
+        private final int expectedModCount = modCount;              // modCount of the list the view is in sync with
+
+        /**
+         * @param first  the first element of the run, null if it is empty.
+         * @param last  the last element of the run, null if it is empty.
+         */
+        private UnidirectionalLinkedListView(UnidirectionalLinkedListElement<E> first, UnidirectionalLinkedListElement<E> last){
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        public boolean forEachWhile(Predicate<? super E> action){
+            if(first == null) return true;
+            for(UnidirectionalLinkedListElement<E> e = first; ; e = e.next()){
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(!action.test(e.getRefEntry())) return false;
+                if(e == last) return true;
+            }
+        }
+
+        @Override
+        public Iterator<E> iterator(){
+            return new Iterator<E>(){
+                private UnidirectionalLinkedListElement<E> next = first;     // the element returned by the next call to next(), null at the end
+
+                @Override
+                public boolean hasNext(){
+                    return next != null;
+                }
+
+                @Override
+                public E next(){
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    if(next == null) throw new NoSuchElementException();
+                    E o = next.getRefEntry();
+                    next = next == last ? null : next.next();
+                    return o;
+                }
+            };
+        }
+    }
+
+    /**
+     * Iterates once over the entries from the first to the last one.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private class UnidirectionalLinkedListIterator implements Iterator<E>
+    {
+        // instance variables
+        private UnidirectionalLinkedListElement<E> next = top;      // the element returned by the next call to next()
+        private int remaining = length;                             // the number of elements not returned yet
+        private final int expectedModCount = modCount;              // modCount of the list the iterator is in sync with
+
+        @Override
+        public boolean hasNext(){
+            return remaining > 0;
+        }
+
+        @Override
+        public E next(){
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(remaining == 0) throw new NoSuchElementException();
+            E o = next.getRefEntry();
+            next = next.next();
+            remaining--;
+            return o;
+        }
+    }
+
+    /**
+     * A Spliterator over a run of consecutive elements, given by its first element and its number of elements. It is
+     SIZED, SUBSIZED and ORDERED: the length of the list is known, so every split is exactly balanced. Splitting walks
+     half of the run to find where the second half starts.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private class UnidirectionalLinkedListSpliterator implements Spliterator<E>
+    {
+        // class variables
+        private static final int MIN_SPLIT = 128;                   // runs shorter than this are not split
+
+        // instance variables
+        private UnidirectionalLinkedListElement<E> first;           // first element of the run
+        private int count;                                          // number of elements in the run
+        private final int expectedModCount = modCount;              // modCount of the list the spliterator is in sync with
+
+        /**
+         * @param first  the first element of the run.
+         * @param count  the number of elements in the run.
+         */
+        private UnidirectionalLinkedListSpliterator(UnidirectionalLinkedListElement<E> first, int count){
+            this.first = first;
+            this.count = count;
+        }
+
+        @Override
+        public Spliterator<E> trySplit(){
+            if(count < MIN_SPLIT) return null;
+            int half = count/2;
+            UnidirectionalLinkedListSpliterator prefix = new UnidirectionalLinkedListSpliterator(first, half);
+            for(int i = 0; i < half; i++) first = first.next();
+            count -= half;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action){
+            if(count == 0) return false;
+            E o = first.getRefEntry();
+            first = first.next();
+            count--;
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            action.accept(o);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action){
+            UnidirectionalLinkedListElement<E> e = first;
+            for(; count > 0; count--){
+                action.accept(e.getRefEntry());
+                e = e.next();
+            }
+            first = e;
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize(){
+            return count;
+        }
+
+        @Override
+        public int characteristics(){
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Sorts a chain of elements ending with null for parallelSort(Comparator): long chains are cut in two halves that
+     are sorted by two subtasks and then merged, chains of at most PARALLEL_SORT_SEGMENT elements are sorted by
+     mergeSort(...).
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private class UnidirectionalLinkedListSorter extends RecursiveTask<UnidirectionalLinkedListElement<E>>
+    {
+        // class variables
+        private static final long serialVersionUID = 1L;                // RecursiveTask is Serializable
+
+        // instance variables
+        private final UnidirectionalLinkedListElement<E> first;                                      // first element of the chain
+        private final int count;                                        // number of elements in the chain
+        private final Comparator<? super E> comparator;
+
+        /**
+         * @param first  the first element of the chain.
+         * @param count  the number of elements in the chain.
+         * @param comparator  the comparator.
+         */
+        private UnidirectionalLinkedListSorter(UnidirectionalLinkedListElement<E> first, int count, Comparator<? super E> comparator){
+            this.first = first;
+            this.count = count;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected UnidirectionalLinkedListElement<E> compute(){
+            if(count <= PARALLEL_SORT_SEGMENT) return mergeSort(first, comparator);
+            int half = count/2;
+            UnidirectionalLinkedListElement<E> middle = first;
+            for(int i = 1; i < half; i++) middle = middle.next();
+            UnidirectionalLinkedListElement<E> second = middle.next();
+            middle.setRef(null);                                     // cutting the chain in two
+            UnidirectionalLinkedListSorter right = new UnidirectionalLinkedListSorter(second, count - half, comparator);
+            right.fork();
+            UnidirectionalLinkedListElement<E> left = new UnidirectionalLinkedListSorter(first, half, comparator).compute();
+            return merge(left, right.join(), comparator);
+        }
+    }
+
+    /**
+     * Appends the String representation of the list, see toString(), to out in a single pass over the elements. Only
+     the strings of the entries themselves are created, so a list of any size can be written to a Writer without
+     building the whole String in memory first.
+     * @param out  the destination of the characters, e.g. a StringBuilder or a Writer.
+     */
+    public void writeTo(Appendable out) throws IOException{
+        out.append("[ ");
+        UnidirectionalLinkedListElement<E> e = top;
+        for(int i = 0; i < length; i++, e = e.next()){
+            if(i > 0) out.append(", ");
+            out.append(String.valueOf(e.getRefEntry()));
+        }
+        out.append(" ]");
+    }
+
+    /**
+     * Writes the list in binary form to out: a header holding the number of elements, followed by every entry written
+     by codec, from the first to the last one. The list is walked once and the bytes pass through a fixed-size buffer,
+     so the memory used does not depend on the size of the list. out is flushed but not closed.
+     * @param out  the destination of the bytes.
+     * @param codec  writes the entries, see ElementCodec.
+     */
+    public void writeTo(OutputStream out, ElementCodec<? super E> codec) throws IOException{
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, BinaryListFormat.BUFFER_SIZE));
+        BinaryListFormat.writeHeader(data, length);
+        UnidirectionalLinkedListElement<E> e = top;
+        for(int i = 0; i < length; i++, e = e.next()){
+            codec.write(e.getRefEntry(), data);
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes the list in binary form to a channel, see writeTo(OutputStream, ElementCodec). The channel is not closed.
+     * @param out  the destination of the bytes.
+     * @param codec  writes the entries, see ElementCodec.
+     */
+    public void writeTo(WritableByteChannel out, ElementCodec<? super E> codec) throws IOException{
+        writeTo(Channels.newOutputStream(out), codec);
+    }
+
+    /**
+     * Reads back a list written by writeTo(OutputStream, ElementCodec). Exactly the bytes of the list are consumed, so
+     more data may follow it in the stream; for the same reason in is read as it is, and should be buffered(e.g. a
+     BufferedInputStream) if every read goes to a file or a socket.
+     * @param in  the source of the bytes.
+     * @param codec  reads the entries, the counterpart of the codec the list was written with.
+     * @return a new list holding the entries read, in their order.
+     */
+    public static <E> UnidirectionalLinkedList<E> readFrom(InputStream in, ElementCodec<? extends E> codec) throws IOException{
+        DataInputStream data = new DataInputStream(in);
+        int n = BinaryListFormat.readHeader(data);
+        UnidirectionalLinkedList<E> list = new UnidirectionalLinkedList<E>();
+        for(int i = 0; i < n; i++){
+            list.add(codec.read(data));
+        }
+        return list;
+    }
+
+    /**
+     * Reads back a list written by writeTo(WritableByteChannel, ElementCodec) or writeTo(OutputStream, ElementCodec).
+     The channel is read through a buffer, which may take bytes beyond the end of the list out of the channel; use
+     readFrom(InputStream, ElementCodec) if more data follows the list.
+     * @param in  the source of the bytes.
+     * @param codec  reads the entries, the counterpart of the codec the list was written with.
+     * @return a new list holding the entries read, in their order.
+     */
+    public static <E> UnidirectionalLinkedList<E> readFrom(ReadableByteChannel in, ElementCodec<? extends E> codec) throws IOException{
+        return readFrom(new BufferedInputStream(Channels.newInputStream(in), BinaryListFormat.BUFFER_SIZE), codec);
+    }
+
+    /**
+     * Writes the serialized form of the list: its settings, the number of elements and then the entries, from the first
+     to the last one. The elements themselves are never serialized, so the depth of the stream does not grow with the
+     size of the list as it would if the cycle of references were followed.
+     * @param out  the stream.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException{
+        out.defaultWriteObject();
+        out.writeInt(length);
+        UnidirectionalLinkedListElement<E> e = top;
+        for(int i = 0; i < length; i++, e = e.next()){
+            if(compactSerialization){
+                BinaryListFormat.writeCompact(out, e.getRefEntry());
+            } else{
+                out.writeObject(e.getRefEntry());
+            }
+        }
+    }
+
+    /**
+     * Reads the serialized form written by writeObject(ObjectOutputStream) and links the elements again one after the
+     other. The pointer is on the first element and the pool is empty.
+     * @param in  the stream.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException{
+        in.defaultReadObject();
+        if(poolCapacity < 0) throw new InvalidObjectException("negative pool capacity " + poolCapacity);
+        int n = in.readInt();
+        if(n < 0) throw new InvalidObjectException("negative length " + n);
+        for(int i = 0; i < n; i++){
+            add((E)(compactSerialization ? BinaryListFormat.readCompact(in) : in.readObject()));
+        }
+    }
+
+    /**
+     * The characters are appended to a StringBuilder presized from the first entry, in a single pass over the
+     elements, so the time taken grows linearly with the size of the list.
      * @return the String representation of the entries stored in the list in format "[ ob1.toString(), ob2.toString ... ]"
      */
     @Override
     public String toString(){
-        String ret = "[ ";
-        for(int i = 0; i < length; i++){
-            ret += get(i).toString() + ((i == length - 1)?"":", ");
+        if(length == 0) return "[  ]";
+        long start = ListStatistics.ENABLED ? System.nanoTime() : 0L;
+        String first = String.valueOf(top.getRefEntry());
+        long estimate = 4L + (long)length*(first.length() + 2);
+        StringBuilder ret = new StringBuilder((int)Math.min(estimate, MAX_PRESIZE));
+        ret.append("[ ").append(first);
+        UnidirectionalLinkedListElement<E> e = top.next();
+        for(int i = 1; i < length; i++, e = e.next()){
+            ret.append(", ").append(String.valueOf(e.getRefEntry()));
         }
-        return ret + " ]";
+        ret.append(" ]");
+        if(ListStatistics.ENABLED) STATISTICS.record(ListStatistics.Operation.TO_STRING, start, length, length);
+        return ret.toString();
     }
 }
@@ -0,0 +1,340 @@
+package anon.data_structures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * This class defines an unrolled Linked-List: a bidirectional, cyclic chain of chunks where every chunk stores up to
+ a fixed number of entries in an array.
+     ________________________________        ________________________________        ______________________
+     |      |                 |      |       |      |                 |      |       |      |        |      |
+     |  o   | e0 e1 e2 ... e63 |  o-------->|  o   | e64 ... e95      |  o------ ... -->|  o   | ... en |  o   |
+     |__|___|_________________|______|<-------|______|_________________|______|<- ... ---|______|________|__|___|
+        |                                                                                                   |
+        |___________________ the first chunk and the last chunk are linked to each other ___________________|
+ *
+ * Walking the list touches one chunk per chunkCapacity entries instead of one element object per entry, so scans
+ like getElement(int) or toString() produce far fewer cache misses than those of BidirectionalLinkedList. Chunks are
+ split when an entry has to be inserted into a full one and merged with their neighbour when they become less than
+ half full.
+ *
+ * The public methods are the same as those of BidirectionalLinkedList, so the two can be swapped. Since no element
+ object exists for a single entry, next() and prev() return the entry itself.
+ *
+ * Just like most other data-structures, the indexing begins from 0.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+public class UnrolledLinkedList<E>
+{
+    // class variables
+    public static final int DEFAULT_CHUNK_CAPACITY = 64;                // entries per chunk unless told otherwise
+
+    // instance variables
+    private final int chunkCapacity;                                    // maximum number of entries in a chunk
+    private UnrolledLinkedListChunk<E> top, tail;                       // first and last chunk
+    private int length = 0;                                             // size of the list
+    private int pointing = 0;                                           // index of the currently pointing entry
+    private UnrolledLinkedListChunk<E> pointingChunk;                   // chunk holding it, null when it must be looked up again
+    private int pointingOffset;                                         // its position inside pointingChunk
+    private int locatedOffset;                                          // position inside the chunk returned by locate(int)
+
+    /**
+     *     cell1            cell2                            cell3
+     ____________________________________________________________________
+     |                |                               |                  |
+     |  Reference to  |   entries[0 .. count - 1]     |   Reference to   |
+     |    previous    |   (at most chunkCapacity)     |       next       |
+     |     chunk      |                               |      chunk       |
+     |________________|_______________________________|__________________|
+     *
+     * entries stores the entries of type E, count is the number of slots in use.
+     *
+     * @author saurabh000345
+     * @since 1.0.2
+     */
+    private static class UnrolledLinkedListChunk<E>
+    {
+        // instance variables
+        private final Object[] entries;                                 // stores the entries
+        private int count = 0;                                          // number of entries in use
+        private UnrolledLinkedListChunk<E> next, prev;                  // references to the next and previous chunks
+
+        /**
+         * Creates an empty chunk.
+         * @param capacity  the number of entries the chunk can hold.
+         */
+        private UnrolledLinkedListChunk(int capacity){
+            entries = new Object[capacity];
+            prev = this;            // cyclic; configured later by the list
+            next = this;
+        }
+
+        /**
+         * Links the chunk c right after the invoking chunk.
+         * @param c  the chunk to be linked.
+         */
+        private void linkAfter(UnrolledLinkedListChunk<E> c){
+            c.prev = this;
+            c.next = next;
+            next.prev = c;
+            next = c;
+        }
+
+        /**
+         * Removes the invoking chunk from the chain of chunks.
+         */
+        private void unlink(){
+            prev.next = next;
+            next.prev = prev;
+        }
+
+        /**
+         * @param i  position of the entry inside the chunk.
+         * @return the entry stored at that position.
+         */
+        @SuppressWarnings("unchecked")
+        private E get(int i){
+            return (E)entries[i];
+        }
+    }
+
+    /**
+     * The no-arg constructor to create an empty list with chunks of DEFAULT_CHUNK_CAPACITY entries.
+     */
+    public UnrolledLinkedList(){
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list whose chunks hold chunkCapacity entries.
+     * @param chunkCapacity  the number of entries per chunk, at least 2.
+     */
+    public UnrolledLinkedList(int chunkCapacity){
+        if(chunkCapacity < 2) throw new IllegalArgumentException("chunkCapacity must be at least 2");
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    /**
+     * This constructor creates a new list with only one element that is being passed as argument.
+     * @param o The element to be contained in the list.
+     */
+    public UnrolledLinkedList(E o){
+        this();
+        add(o);
+    }
+
+    /**
+     * @return the number of entries in the list.
+     */
+    public int size(){
+        return length;
+    }
+
+    /**
+     * @return the number of entries per chunk.
+     */
+    public int getChunkCapacity(){
+        return chunkCapacity;
+    }
+
+    /**
+     * @param index  the index of the element to be retrieved.
+     * @return the entry contained at the element at the specified index.
+     */
+    public E getElement(int index) throws ListIndexOutOfBoundsException{
+        UnrolledLinkedListChunk<E> c = locate(checkIndex(index));
+        return c.get(locatedOffset);
+    }
+
+    /**
+     * This method adds an element at the end of the list.
+     * @param o  the entry to be added to the new element.
+     */
+    public void add(E o){
+        if(length == 0){                        // if the list is empty, a different approach is needed
+            top = new UnrolledLinkedListChunk<E>(chunkCapacity);
+            tail = top;
+        } else if(tail.count == chunkCapacity){ // appending fills the chunks completely, no split needed
+            tail.linkAfter(new UnrolledLinkedListChunk<E>(chunkCapacity));
+            tail = tail.next;
+        }
+        tail.entries[tail.count++] = o;
+        length++;                               // Updating the length.
+    }
+
+    /**
+     * This method adds a new element in the MIDDLE(not the end) of the list such that the new element has <index> = index
+     * @param index  the index value of the new element.
+     * @param o  entry to be contained in the new element
+     */
+    public void add(E o, int index) throws ListIndexOutOfBoundsException{
+        index = checkIndex(index);
+        UnrolledLinkedListChunk<E> c = locate(index);
+        int offset = locatedOffset;
+        if(c.count == chunkCapacity){           // the chunk is full, it is split in two halves
+            UnrolledLinkedListChunk<E> half = new UnrolledLinkedListChunk<E>(chunkCapacity);
+            int keep = chunkCapacity/2;
+            System.arraycopy(c.entries, keep, half.entries, 0, c.count - keep);
+            Arrays.fill(c.entries, keep, c.count, null);
+            half.count = c.count - keep;
+            c.count = keep;
+            c.linkAfter(half);
+            if(c == tail) tail = half;
+            if(offset > keep){
+                c = half;
+                offset -= keep;
+            }
+        }
+        System.arraycopy(c.entries, offset, c.entries, offset + 1, c.count - offset);
+        c.entries[offset] = o;
+        c.count++;
+        length++;                               // updating the size
+        if(index <= pointing) pointing++;       // the pointer stays on the same entry
+        pointingChunk = null;
+    }
+
+    /**
+     * Removes the element at index <index> in the list.
+     * @param index  the index of the element which has to be removed.
+     */
+    public void remove(int index) throws ListIndexOutOfBoundsException{
+        index = checkIndex(index);
+        UnrolledLinkedListChunk<E> c = locate(index);
+        int offset = locatedOffset;
+        System.arraycopy(c.entries, offset + 1, c.entries, offset, c.count - offset - 1);
+        c.entries[--c.count] = null;
+        if(c.count == 0){                       // the chunk is not needed anymore
+            if(c == top && c == tail){
+                top = null;
+                tail = null;
+            } else{
+                c.unlink();
+                if(c == top) top = c.next;
+                if(c == tail) tail = c.prev;
+            }
+        } else if(c != tail && c.count < chunkCapacity/2 && c.count + c.next.count <= chunkCapacity){
+            UnrolledLinkedListChunk<E> n = c.next;  // merging the next chunk into this one
+            System.arraycopy(n.entries, 0, c.entries, c.count, n.count);
+            c.count += n.count;
+            n.unlink();
+            if(n == tail) tail = c;
+        }
+        length--;                               // updating size
+        if(index < pointing) pointing--;        // the pointer stays on the same entry, or moves to the next one
+        if(pointing >= length) pointing = 0;
+        pointingChunk = null;
+    }
+
+    /**
+     * This method updates the entry at the pointer and sets it to the passed argument.
+     * @param o  the new entry
+     */
+    public void setEntry(E o){
+        UnrolledLinkedListChunk<E> c = pointingChunk();
+        c.entries[pointingOffset] = o;
+    }
+
+    /**
+     * This method updates the entry in the element at index <index> and sets it to the passed argument.
+     * @param o  the new entry
+     * @param index  the index of the element to be updated
+     */
+    public void setEntry(E o, int index) throws ListIndexOutOfBoundsException{
+        UnrolledLinkedListChunk<E> c = locate(checkIndex(index));
+        c.entries[locatedOffset] = o;
+    }
+
+    /**
+     * @return the previous entry while updating the pointer.
+     */
+    public E prev(){
+        UnrolledLinkedListChunk<E> c = pointingChunk();
+        if(pointingOffset == 0){                // stepping into the previous chunk
+            pointingChunk = c.prev;
+            pointingOffset = c.prev.count;
+        }
+        pointing = (pointing - 1 + length)%length;
+        return pointingChunk.get(--pointingOffset);
+    }
+
+    /**
+     * @return the next entry while updating the pointer.
+     */
+    public E next(){
+        UnrolledLinkedListChunk<E> c = pointingChunk();
+        if(++pointingOffset == c.count){        // stepping into the next chunk
+            pointingChunk = c.next;
+            pointingOffset = 0;
+        }
+        pointing = (pointing + 1)%length;
+        return pointingChunk.get(pointingOffset);
+    }
+
+    /**
+     * @return the String representation of the entries stored in the list in format "[ ob1.toString(), ob2.toString ... ]"
+     */
+    @Override
+    public String toString(){
+        StringBuilder ret = new StringBuilder("[ ");
+        UnrolledLinkedListChunk<E> c = top;
+        for(int seen = 0; seen < length; c = c.next){  // one array scan per chunk
+            for(int i = 0; i < c.count; i++, seen++){
+                if(seen > 0) ret.append(", ");
+                ret.append(c.entries[i]);
+            }
+        }
+        return ret.append(" ]").toString();
+    }
+
+    /**
+     * Validates an index the same way BidirectionalLinkedList does: indices below length are accepted and negative
+     values are counted from the end of the list.
+     * @param index  the index passed by the user.
+     * @return the index normalized into the range [0, length).
+     */
+    private int checkIndex(int index) throws ListIndexOutOfBoundsException{
+        if(index >= length || index < -length) throw new ListIndexOutOfBoundsException();
+        return (index + length)%length;
+    }
+
+    /**
+     * Finds the chunk holding the entry at the given index, walking from whichever end of the list is closer. The
+     position of the entry inside that chunk is left in locatedOffset.
+     * @param index  a valid index.
+     * @return the chunk holding the entry.
+     */
+    private UnrolledLinkedListChunk<E> locate(int index){
+        UnrolledLinkedListChunk<E> c;
+        if(index < length/2){
+            c = top;
+            while(index >= c.count){
+                index -= c.count;
+                c = c.next;
+            }
+        } else{
+            c = tail;
+            index = length - 1 - index;         // counted from the end
+            while(index >= c.count){
+                index -= c.count;
+                c = c.prev;
+            }
+            index = c.count - 1 - index;
+        }
+        locatedOffset = index;
+        return c;
+    }
+
+    /**
+     * @return the chunk holding the currently pointing entry, looked up again if the list changed since the last move.
+     */
+    private UnrolledLinkedListChunk<E> pointingChunk(){
+        if(length == 0) throw new NoSuchElementException();
+        if(pointingChunk == null){
+            pointingChunk = locate(pointing);
+            pointingOffset = locatedOffset;
+        }
+        return pointingChunk;
+    }
+}
@@ -0,0 +1,17 @@
+#!/bin/sh
+# Generates the primitive-specialized linked lists from the templates in this folder.
+# Run it again after changing a template; the generated classes are committed under src.
+
+cd "$(dirname "$0")" || exit 1
+OUT=../src/anon/data_structures
+
+for spec in Int:int:Integer Long:long:Long Double:double:Double; do
+    Type=${spec%%:*}
+    rest=${spec#*:}
+    type=${rest%%:*}
+    Boxed=${rest#*:}
+    for shape in Bidirectional Unidirectional; do
+        sed -e "s/@Type@/$Type/g" -e "s/@type@/$type/g" -e "s/@Boxed@/$Boxed/g" \
+            "Primitive${shape}LinkedList.template" > "$OUT/${Type}${shape}LinkedList.java"
+    done
+done
@@ -0,0 +1,157 @@
+package anon.data_structures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the blocking, the timeouts, the interruption and the batches of BlockingBidirectionalLinkedList, and that its
+ iterators remove the occurrence they stand on.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+class BlockingBidirectionalLinkedListTest
+{
+    @Test
+    void takeWaitsForPut() throws Exception{
+        BlockingBidirectionalLinkedList<String> deque = new BlockingBidirectionalLinkedList<String>();
+        CompletableFuture<String> taken = new CompletableFuture<String>();
+        Thread consumer = new Thread(() -> {
+            try{
+                taken.complete(deque.take());
+            } catch(InterruptedException e){
+                taken.completeExceptionally(e);
+            }
+        });
+        consumer.start();
+        waitUntilWaiting(consumer);
+        assertFalse(taken.isDone());
+
+        deque.put("work");
+        assertEquals("work", taken.get(10, TimeUnit.SECONDS));
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    void putWaitsForRoom() throws Exception{
+        BlockingBidirectionalLinkedList<Integer> deque = new BlockingBidirectionalLinkedList<Integer>(1);
+        deque.put(1);
+        Thread producer = new Thread(() -> {
+            try{
+                deque.put(2);
+            } catch(InterruptedException e){
+                // the test fails on the size below
+            }
+        });
+        producer.start();
+        waitUntilWaiting(producer);
+        assertEquals(1, deque.size());
+
+        assertEquals(1, deque.take());
+        producer.join(10_000);
+        assertEquals(List.of(2), new ArrayList<Integer>(deque));
+    }
+
+    @Test
+    void timedCallsGiveUp() throws InterruptedException{
+        BlockingBidirectionalLinkedList<Integer> deque = new BlockingBidirectionalLinkedList<Integer>(2);
+        long start = System.nanoTime();
+        assertNull(deque.poll(50, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+
+        assertTrue(deque.offer(1, 50, TimeUnit.MILLISECONDS));
+        assertTrue(deque.offerFirst(0, 50, TimeUnit.MILLISECONDS));
+        start = System.nanoTime();
+        assertFalse(deque.offer(2, 50, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(0, deque.remainingCapacity());
+        assertEquals(1, deque.pollLast(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void waitingIsInterruptible() throws Exception{
+        BlockingBidirectionalLinkedList<Integer> deque = new BlockingBidirectionalLinkedList<Integer>();
+        AtomicReference<Throwable> thrown = new AtomicReference<Throwable>();
+        Thread consumer = new Thread(() -> {
+            try{
+                deque.takeLast();
+            } catch(Throwable t){
+                thrown.set(t);
+            }
+        });
+        consumer.start();
+        waitUntilWaiting(consumer);
+        consumer.interrupt();
+        consumer.join(10_000);
+
+        assertTrue(thrown.get() instanceof InterruptedException);
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> deque.poll(1, TimeUnit.SECONDS));
+        assertFalse(Thread.interrupted());
+    }
+
+    @Test
+    void drainToMovesABatchInOrder(){
+        BlockingBidirectionalLinkedList<Integer> deque = new BlockingBidirectionalLinkedList<Integer>();
+        for(int i = 0; i < 10; i++) deque.add(i);
+        List<Integer> batch = new ArrayList<Integer>();
+
+        assertEquals(4, deque.drainTo(batch, 4));
+        assertEquals(List.of(0, 1, 2, 3), batch);
+        assertEquals(6, deque.drainTo(batch));
+        assertEquals(10, batch.size());
+        assertTrue(deque.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> deque.drainTo(deque));
+    }
+
+    @Test
+    void iteratorRemovesTheOccurrenceItStandsOn(){
+        BlockingBidirectionalLinkedList<String> deque = new BlockingBidirectionalLinkedList<String>();
+        String twice = new String("twice");
+        deque.add(twice);
+        deque.add("other");
+        deque.add(twice);
+        Iterator<String> it = deque.iterator();
+        it.next();
+        it.next();
+        assertSame(twice, it.next());
+        it.remove();
+        assertThrows(IllegalStateException.class, it::remove);
+        assertEquals(List.of("twice", "other"), new ArrayList<String>(deque));
+
+        deque.add("last");
+        Iterator<String> descending = deque.descendingIterator();
+        descending.next();
+        descending.next();
+        descending.remove();                                    // "other", met second from the end
+        assertEquals(List.of("twice", "last"), new ArrayList<String>(deque));
+
+        Iterator<String> stale = deque.iterator();
+        stale.next();
+        deque.clear();
+        stale.remove();                                         // already gone, nothing happens
+        assertTrue(deque.isEmpty());
+    }
+
+    /**
+     * Waits until thread blocks in the deque.
+     */
+    private static void waitUntilWaiting(Thread thread) throws InterruptedException{
+        while(thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING){
+            assertTrue(thread.isAlive(), "the thread did not block");
+            Thread.sleep(1);
+        }
+    }
+}
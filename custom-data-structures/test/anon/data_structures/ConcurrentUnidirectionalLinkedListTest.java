@@ -0,0 +1,198 @@
+package anon.data_structures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that ConcurrentUnidirectionalLinkedList is linearizable on small histories: a few threads run a few appends,
+ insertions after an element and removals at the same time, every call being stamped when it starts and when it
+ returns. The history is then accepted only if some order of the calls that respects those stamps(a call that returned
+ before another started comes first) gives the same results and the same final list on a sequential model.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+class ConcurrentUnidirectionalLinkedListTest
+{
+    // class variables
+    private static final int ROUNDS = 2000;                     // histories checked
+    private static final int THREADS = 3;                       // threads per history
+    private static final int CALLS = 3;                         // calls per thread
+    private static final int INITIAL = 4;                       // entries 0..INITIAL-1 present when a history starts
+
+    /**
+     * The kinds of calls in a history.
+     */
+    private enum Kind
+    {
+        APPEND, INSERT_AFTER, REMOVE
+    }
+
+    /**
+     * One call of a history: what was called, what it returned and when it started and returned.
+     */
+    private static final class Call
+    {
+        // instance variables
+        private final Kind kind;
+        private final int target;                               // the entry inserted after or removed
+        private final int value;                                // the entry added
+        private ConcurrentUnidirectionalLinkedList<Integer>.Cursor cursor;     // on target, for INSERT_AFTER
+        private boolean result;                                 // true if the call took effect
+        private long start, end;                                // stamps
+
+        private Call(Kind kind, int target, int value){
+            this.kind = kind;
+            this.target = target;
+            this.value = value;
+        }
+
+        /**
+         * Runs the call on the sequential model.
+         * @param model  the entries of the model, changed by the call.
+         * @return what the call returns on the model.
+         */
+        private boolean apply(List<Integer> model){
+            switch(kind){
+                case APPEND:
+                    model.add(value);
+                    return true;
+                case INSERT_AFTER:
+                    int i = model.indexOf(target);
+                    if(i < 0) return false;
+                    model.add(i + 1, value);
+                    return true;
+                default:
+                    return model.remove((Integer)target);
+            }
+        }
+    }
+
+    @Test
+    void smallHistoriesAreLinearizable() throws Exception{
+        Random random = new Random(7);
+        for(int round = 0; round < ROUNDS; round++){
+            ConcurrentUnidirectionalLinkedList<Integer> list = new ConcurrentUnidirectionalLinkedList<Integer>();
+            List<Integer> initial = new ArrayList<Integer>();
+            for(int i = 0; i < INITIAL; i++){
+                list.add(i);
+                initial.add(i);
+            }
+            List<List<Call>> threads = new ArrayList<List<Call>>();
+            List<Call> calls = new ArrayList<Call>();
+            int value = 100;
+            for(int t = 0; t < THREADS; t++){
+                List<Call> mine = new ArrayList<Call>();
+                for(int c = 0; c < CALLS; c++){
+                    Kind kind = Kind.values()[random.nextInt(Kind.values().length)];
+                    Call call = new Call(kind, random.nextInt(INITIAL), value++);
+                    if(kind == Kind.INSERT_AFTER) call.cursor = cursorOn(list, call.target);
+                    mine.add(call);
+                    calls.add(call);
+                }
+                threads.add(mine);
+            }
+
+            run(list, threads);
+
+            List<Integer> actual = new ArrayList<Integer>();
+            list.forEach(actual::add);
+            assertEquals(actual.size(), list.size(), "size of round " + round);
+            assertTrue(linearizable(calls, new boolean[calls.size()], initial, actual),
+                       "round " + round + " is not linearizable, final list " + actual);
+        }
+    }
+
+    /**
+     * Runs the calls of every thread at the same time, stamping them.
+     */
+    private static void run(ConcurrentUnidirectionalLinkedList<Integer> list, List<List<Call>> threads)
+            throws InterruptedException{
+        AtomicLong clock = new AtomicLong();
+        CyclicBarrier barrier = new CyclicBarrier(threads.size());
+        List<Thread> running = new ArrayList<Thread>();
+        for(List<Call> mine : threads){
+            Thread thread = new Thread(() -> {
+                try{
+                    barrier.await();
+                } catch(Exception e){
+                    throw new IllegalStateException(e);
+                }
+                for(Call call : mine){
+                    call.start = clock.incrementAndGet();
+                    Thread.yield();                             // widening the call lets the others overlap it,
+                    switch(call.kind){
+                        case APPEND:
+                            list.add(call.value);
+                            call.result = true;
+                            break;
+                        case INSERT_AFTER:
+                            try{
+                                call.cursor.insertAfter(call.value);
+                                call.result = true;
+                            } catch(IllegalStateException e){
+                                call.result = false;
+                            }
+                            break;
+                        default:
+                            call.result = list.remove((Integer)call.target);
+                    }
+                    Thread.yield();                             // even on a single processor
+                    call.end = clock.incrementAndGet();
+                }
+            });
+            thread.start();
+            running.add(thread);
+        }
+        for(Thread thread : running) thread.join();
+    }
+
+    /**
+     * Searches for an order of the calls not done yet that respects their stamps and explains their results and the
+     final list.
+     * @param calls  every call of the history.
+     * @param done  the calls already placed in the order.
+     * @param model  the entries of the model after those calls.
+     * @param actual  the final entries of the list.
+     * @return true if such an order exists.
+     */
+    private static boolean linearizable(List<Call> calls, boolean[] done, List<Integer> model, List<Integer> actual){
+        boolean all = true;
+        for(int i = 0; i < calls.size(); i++){
+            if(done[i]) continue;
+            all = false;
+            Call call = calls.get(i);
+            boolean minimal = true;                             // no pending call returned before this one started
+            for(int j = 0; j < calls.size() && minimal; j++){
+                if(!done[j] && calls.get(j).end < call.start) minimal = false;
+            }
+            if(!minimal) continue;
+            List<Integer> next = new ArrayList<Integer>(model);
+            if(call.apply(next) != call.result) continue;
+            done[i] = true;
+            boolean found = linearizable(calls, done, next, actual);
+            done[i] = false;
+            if(found) return true;
+        }
+        return all && model.equals(actual);
+    }
+
+    /**
+     * @return a cursor standing on the element holding entry.
+     */
+    private static ConcurrentUnidirectionalLinkedList<Integer>.Cursor cursorOn(ConcurrentUnidirectionalLinkedList<Integer> list,
+                                                                               int entry){
+        ConcurrentUnidirectionalLinkedList<Integer>.Cursor c = list.cursor();
+        while(c.next() != entry){
+            // walking
+        }
+        return c;
+    }
+}
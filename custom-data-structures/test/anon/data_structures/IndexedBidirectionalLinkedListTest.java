@@ -0,0 +1,92 @@
+package anon.data_structures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the span bookkeeping of IndexedBidirectionalLinkedList by running random positional operations on it and on
+ an ArrayList side by side: every entry must be found at the index the ArrayList has it at, whatever the levels drawn.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+class IndexedBidirectionalLinkedListTest
+{
+    // class variables
+    private static final int ROUNDS = 300;                      // lists built
+    private static final int OPERATIONS = 400;                  // operations per list
+
+    @Test
+    void positionalOperationsMatchArrayList(){
+        Random random = new Random(11);
+        for(int round = 0; round < ROUNDS; round++){
+            IndexedBidirectionalLinkedList<Integer> list = new IndexedBidirectionalLinkedList<Integer>();
+            List<Integer> model = new ArrayList<Integer>();
+            for(int op = 0; op < OPERATIONS; op++){
+                int n = model.size();
+                int kind = random.nextInt(n == 0 ? 2 : 6);
+                int index = (n == 0)? 0 : random.nextInt(2*n) - n;     // negative ones too
+                int normalized = (index + n)%Math.max(n, 1);
+                switch(kind){
+                    case 0:
+                    case 1:
+                        if(n == 0 || random.nextBoolean()){
+                            list.add(op);
+                            model.add(op);
+                        } else{
+                            list.add(op, index);
+                            model.add(normalized, op);
+                        }
+                        break;
+                    case 2:
+                    case 3:
+                        list.remove(index);
+                        model.remove(normalized);
+                        break;
+                    case 4:
+                        list.setEntry(-op, index);
+                        model.set(normalized, -op);
+                        break;
+                    default:
+                        assertEquals(model.get(normalized), list.getElement(index), "round " + round + ", index " + index);
+                }
+                assertEquals(model.size(), list.size());
+            }
+            assertEntries(model, list, round);
+        }
+    }
+
+    @Test
+    void indexesOutsideTheListAreRejected(){
+        IndexedBidirectionalLinkedList<Integer> list = new IndexedBidirectionalLinkedList<Integer>();
+        assertThrows(ListIndexOutOfBoundsException.class, () -> list.getElement(0));
+        for(int i = 0; i < 100; i++) list.add(i);
+        assertThrows(ListIndexOutOfBoundsException.class, () -> list.getElement(100));
+        assertThrows(ListIndexOutOfBoundsException.class, () -> list.add(-1, 100));
+        assertThrows(ListIndexOutOfBoundsException.class, () -> list.remove(-101));
+        assertEquals(0, list.getElement(-100));
+        assertEquals(99, list.getElement(-1));
+        for(int i = 0; i < 100; i++) list.remove(0);
+        assertEquals(0, list.size());
+        list.add(7);
+        assertEquals(7, list.getElement(0));
+    }
+
+    /**
+     * Compares every entry of the list, found by index and by walking the chain, with the model.
+     */
+    private static void assertEntries(List<Integer> model, IndexedBidirectionalLinkedList<Integer> list, int round){
+        StringBuilder expected = new StringBuilder("[ ");
+        for(int i = 0; i < model.size(); i++){
+            assertEquals(model.get(i), list.getElement(i), "round " + round + ", index " + i);
+            if(i > 0) expected.append(", ");
+            expected.append(model.get(i));
+        }
+        assertEquals(expected.append(" ]").toString(), list.toString(), "round " + round);
+    }
+}
@@ -0,0 +1,61 @@
+package anon.data_structures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Checks the weight bound of LinkedCache with both policies.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+class LinkedCacheTest
+{
+    @ParameterizedTest
+    @EnumSource(LinkedCache.Policy.class)
+    void anEntryHeavierThanTheBoundOnlyEvictsItself(LinkedCache.Policy policy){
+        List<String> evicted = new ArrayList<String>();
+        LinkedCache<String, Integer> cache = new LinkedCache<String, Integer>(policy, 10, (k, v) -> v,
+                                                                              (k, v) -> evicted.add(k));
+        cache.put("a", 2);
+        cache.put("b", 2);
+        assertNull(cache.put("big", 13));
+
+        assertEquals(List.of("big"), evicted);
+        assertTrue(cache.containsKey("a"));
+        assertTrue(cache.containsKey("b"));
+        assertFalse(cache.containsKey("big"));
+        assertEquals(4, cache.weight());
+        assertEquals(1, cache.evictions());
+    }
+
+    @ParameterizedTest
+    @EnumSource(LinkedCache.Policy.class)
+    void replacingAValueByOneHeavierThanTheBoundRemovesTheKey(LinkedCache.Policy policy){
+        LinkedCache<String, Integer> cache = new LinkedCache<String, Integer>(policy, 10, (k, v) -> v, null);
+        cache.put("a", 2);
+        cache.put("b", 3);
+
+        assertEquals(3, cache.put("b", 11));
+        assertFalse(cache.containsKey("b"));
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.weight());
+    }
+
+    @ParameterizedTest
+    @EnumSource(LinkedCache.Policy.class)
+    void theWeightStaysWithinTheBound(LinkedCache.Policy policy){
+        LinkedCache<Integer, Integer> cache = new LinkedCache<Integer, Integer>(policy, 20, (k, v) -> v, null);
+        for(int i = 0; i < 1000; i++){
+            cache.put(i%37, i%7 + 1);
+            assertTrue(cache.weight() <= 20);
+        }
+    }
+}
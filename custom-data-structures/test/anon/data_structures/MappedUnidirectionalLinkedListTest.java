@@ -0,0 +1,76 @@
+package anon.data_structures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks that MappedUnidirectionalLinkedList keeps its entries across reopening, validates its indexes and loses no
+ slot of its file when the codec rejects an entry.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+class MappedUnidirectionalLinkedListTest
+{
+    // class variables
+    private static final int H_FREE = 24, H_USED = 28;          // offsets of the header fields read by the tests
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void entriesSurviveReopening() throws IOException{
+        Path file = dir.resolve("list");
+        try(MappedUnidirectionalLinkedList<Integer> list = new MappedUnidirectionalLinkedList<Integer>(file, RecordCodec.INT)){
+            for(int i = 1; i <= 3; i++) list.add(i);
+            list.add(0, 0);
+            list.remove(-1);
+        }
+        try(MappedUnidirectionalLinkedList<Integer> list = new MappedUnidirectionalLinkedList<Integer>(file, RecordCodec.INT)){
+            assertEquals("[ 0, 1, 2 ]", list.toString());
+            assertEquals(3, list.size());
+        }
+    }
+
+    @Test
+    void indexesOutsideTheListAreRejected() throws IOException{
+        try(MappedUnidirectionalLinkedList<Integer> list = new MappedUnidirectionalLinkedList<Integer>(dir.resolve("list"),
+                                                                                                    RecordCodec.INT)){
+            for(int i = 1; i <= 3; i++) list.add(i);
+            assertThrows(ListIndexOutOfBoundsException.class, () -> list.add(9, 3));
+            assertThrows(ListIndexOutOfBoundsException.class, () -> list.remove(3));
+            assertThrows(ListIndexOutOfBoundsException.class, () -> list.remove(-4));
+            list.remove(-3);
+            assertEquals("[ 2, 3 ]", list.toString());
+        }
+    }
+
+    @Test
+    void aRejectedEntryLosesNoSlot() throws IOException{
+        Path file = dir.resolve("list");
+        try(MappedUnidirectionalLinkedList<Integer> list = new MappedUnidirectionalLinkedList<Integer>(file, RecordCodec.INT)){
+            list.add(1);
+            list.add(2);
+            for(int i = 0; i < 3; i++){
+                assertThrows(NullPointerException.class, () -> list.add(null));
+                assertThrows(NullPointerException.class, () -> list.add(null, 0));
+            }
+            list.add(3);                                        // takes the slot handed back
+            assertEquals("[ 1, 2, 3 ]", list.toString());
+        }
+        ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(3, header.getInt(H_USED));
+        assertEquals(-1, header.getInt(H_FREE));
+        try(MappedUnidirectionalLinkedList<Integer> list = new MappedUnidirectionalLinkedList<Integer>(file, RecordCodec.INT)){
+            assertEquals("[ 1, 2, 3 ]", list.toString());
+        }
+    }
+}
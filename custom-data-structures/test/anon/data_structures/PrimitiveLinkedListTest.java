@@ -0,0 +1,89 @@
+package anon.data_structures;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the indexes accepted by the generated primitive lists at the edges of [-size(), size()), the same ones as
+ UnidirectionalLinkedList and BidirectionalLinkedList accept.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+class PrimitiveLinkedListTest
+{
+    @Test
+    void intUnidirectionalIndexes(){
+        IntUnidirectionalLinkedList list = ints(1, 2, 3);
+        assertThrows(ListIndexOutOfBoundsException.class, () -> list.add(9, 3));
+        assertThrows(ListIndexOutOfBoundsException.class, () -> list.add(9, -4));
+        assertThrows(ListIndexOutOfBoundsException.class, () -> list.remove(3));
+        assertThrows(ListIndexOutOfBoundsException.class, () -> list.remove(-4));
+        assertArrayEquals(new int[]{1, 2, 3}, list.toIntArray());
+
+        list.add(0, 0);
+        assertArrayEquals(new int[]{0, 1, 2, 3}, list.toIntArray());
+        list.add(9, -1);                                        // in front of the last element
+        assertArrayEquals(new int[]{0, 1, 2, 9, 3}, list.toIntArray());
+        list.add(8, -5);                                        // in front of the first element
+        assertArrayEquals(new int[]{8, 0, 1, 2, 9, 3}, list.toIntArray());
+        list.remove(-6);
+        assertArrayEquals(new int[]{0, 1, 2, 9, 3}, list.toIntArray());
+        list.remove(4);
+        assertArrayEquals(new int[]{0, 1, 2, 9}, list.toIntArray());
+        list.remove(-1);
+        list.remove(0);
+        assertArrayEquals(new int[]{1, 2}, list.toIntArray());
+        list.add(7);                                            // the last element is still known
+        assertArrayEquals(new int[]{1, 2, 7}, list.toIntArray());
+        list.remove(0);
+        list.remove(0);
+        list.remove(0);
+        assertArrayEquals(new int[0], list.toIntArray());
+        assertThrows(ListIndexOutOfBoundsException.class, () -> list.remove(0));
+    }
+
+    @Test
+    void longAndDoubleUnidirectionalIndexes(){
+        LongUnidirectionalLinkedList longs = new LongUnidirectionalLinkedList();
+        DoubleUnidirectionalLinkedList doubles = new DoubleUnidirectionalLinkedList();
+        for(int i = 1; i <= 3; i++){
+            longs.add(i);
+            doubles.add(i);
+        }
+        assertThrows(ListIndexOutOfBoundsException.class, () -> longs.add(9L, 3));
+        assertThrows(ListIndexOutOfBoundsException.class, () -> longs.remove(3));
+        assertThrows(ListIndexOutOfBoundsException.class, () -> doubles.add(9.0, 3));
+        assertThrows(ListIndexOutOfBoundsException.class, () -> doubles.remove(3));
+
+        longs.remove(-3);
+        doubles.remove(-3);
+        longs.add(9L, -1);
+        doubles.add(9.0, -1);
+        assertArrayEquals(new long[]{2, 9, 3}, longs.toLongArray());
+        assertArrayEquals(new double[]{2, 9, 3}, doubles.toDoubleArray());
+    }
+
+    @Test
+    void intBidirectionalIndexes(){
+        IntBidirectionalLinkedList list = new IntBidirectionalLinkedList();
+        for(int i = 1; i <= 3; i++) list.add(i);
+        assertThrows(ListIndexOutOfBoundsException.class, () -> list.add(9, 3));
+        assertThrows(ListIndexOutOfBoundsException.class, () -> list.remove(-4));
+
+        list.add(0, -3);
+        list.remove(-1);
+        assertArrayEquals(new int[]{0, 1, 2}, list.toIntArray());
+    }
+
+    /**
+     * @return a new list holding the given entries.
+     */
+    private static IntUnidirectionalLinkedList ints(int... entries){
+        IntUnidirectionalLinkedList ret = new IntUnidirectionalLinkedList();
+        for(int o : entries) ret.add(o);
+        return ret;
+    }
+}
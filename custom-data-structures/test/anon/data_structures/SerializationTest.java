@@ -0,0 +1,100 @@
+package anon.data_structures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks that the lists come back from serialization, in the default and in the compact form, and from
+ writeTo(OutputStream, ElementCodec), with the same entries in the same order.
+ *
+ * @author saurabh000345
+ * @since 1.0.2
+ */
+class SerializationTest
+{
+    // class variables
+    private static final List<Object> MIXED = Arrays.asList(null, 1, -7L, 2.5, "text", 1.5f, (short)3, (byte)-4, 'c',
+                                                            true, "", new BigInteger("123456789012345678901234567890"),
+                                                            "a\uD800b", "\uDC00", "😀", "\u0000", "é中");
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void mixedEntriesRoundTrip(boolean compact) throws Exception{
+        BidirectionalLinkedList<Object> bi = new BidirectionalLinkedList<Object>();
+        UnidirectionalLinkedList<Object> uni = new UnidirectionalLinkedList<Object>();
+        for(Object o : MIXED){
+            bi.add(o);
+            uni.add(o);
+        }
+        bi.setCompactSerialization(compact);
+        uni.setCompactSerialization(compact);
+
+        BidirectionalLinkedList<Object> biCopy = copy(bi);
+        UnidirectionalLinkedList<Object> uniCopy = copy(uni);
+        assertEquals(MIXED, entries(biCopy));
+        assertEquals(MIXED, entries(uniCopy));
+        assertEquals(compact, biCopy.isCompactSerialization());
+        assertEquals(compact, uniCopy.isCompactSerialization());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void longAndLargeContentRoundTrips(boolean compact) throws Exception{
+        StringBuilder s = new StringBuilder();
+        for(int i = 0; s.length() < 100_000; i++) s.append((char)(i%0xFFFF + 1));  // every char, surrogates alone
+        BidirectionalLinkedList<Object> list = new BidirectionalLinkedList<Object>();
+        list.add(s.toString());
+        for(int i = 0; i < 100_000; i++) list.add(i%3 == 0 ? Integer.valueOf(i) : String.valueOf(i));
+        list.setCompactSerialization(compact);
+
+        assertEquals(entries(list), entries(copy(list)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "plain", "a\uD800b", "\uDBFF", "😀", "\u0000\u0080߿ࠀ￿"})
+    void stringCodecIsLossless(String s) throws IOException{
+        BidirectionalLinkedList<String> list = new BidirectionalLinkedList<String>();
+        list.add(s);
+        list.add(null);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        list.writeTo(bytes, ElementCodec.STRING);
+        BidirectionalLinkedList<String> copy = BidirectionalLinkedList.readFrom(new ByteArrayInputStream(bytes.toByteArray()),
+                                                                                 ElementCodec.STRING);
+
+        assertEquals(Arrays.asList(s, null), entries(copy));
+    }
+
+    /**
+     * @return a copy of o made by serializing it and reading it back.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T copy(T o) throws IOException, ClassNotFoundException{
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream out = new ObjectOutputStream(bytes)){
+            out.writeObject(o);
+        }
+        try(ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))){
+            return (T)in.readObject();
+        }
+    }
+
+    /**
+     * @return the entries of list, in order.
+     */
+    private static <E> List<E> entries(Iterable<E> list){
+        List<E> ret = new ArrayList<E>();
+        for(E o : list) ret.add(o);
+        return ret;
+    }
+}